@@ -0,0 +1,204 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single-pass {@link MatchAggregate#fromMatchRecordList} with the previous
+ * implementation, which streamed the list once per average, overall and per champion. Both sketch
+ * the percentiles the same way, so only the averaging differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MatchAggregateBenchmark {
+  private static final int CHAMPIONS = 40;
+
+  @Param({"20", "1000", "100000"})
+  private int matchCount;
+
+  private List<Match> matches;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(42);
+    matches = new ArrayList<>(matchCount);
+    for (int i = 0; i < matchCount; i++) {
+      // Roughly one game in ten ends before the 15 minute timeline frame
+      boolean shortGame = random.nextInt(10) == 0;
+      matches.add(
+          new Match(
+              "EUW1_" + i,
+              "puuid",
+              random.nextBoolean(),
+              20 + random.nextDouble() * 20,
+              1736300000000L + i,
+              "Champion" + random.nextInt(CHAMPIONS),
+              Role.ADC,
+              random.nextInt(15),
+              random.nextInt(10),
+              random.nextInt(20),
+              random.nextDouble() * 8,
+              random.nextInt(3),
+              400 + random.nextDouble() * 600,
+              random.nextDouble() * 2,
+              random.nextDouble() * 0.4,
+              random.nextDouble() * 0.3,
+              random.nextDouble(),
+              300 + random.nextDouble() * 200,
+              5 + random.nextDouble() * 4,
+              random.nextInt(8000),
+              random.nextInt(20000),
+              random.nextInt(6),
+              random.nextDouble() * 2,
+              random.nextInt(25),
+              random.nextInt(10),
+              random.nextInt(6),
+              70 + random.nextDouble() * 20,
+              3000 + random.nextDouble() * 800,
+              shortGame ? null : 5500 + random.nextDouble() * 1000,
+              shortGame ? null : 6000 + random.nextDouble() * 1500));
+    }
+  }
+
+  @Benchmark
+  public MatchAggregate singlePass() {
+    return MatchAggregate.fromMatchRecordList(matches);
+  }
+
+  @Benchmark
+  public MatchAggregate streamPerMetric() {
+    Map<String, List<Match>> byChampion =
+        matches.stream().collect(Collectors.groupingBy(Match::championName));
+    var champions =
+        byChampion.entrySet().stream()
+            .map(entry -> streamAggregate(entry.getValue()).toChampionAggregate(entry.getKey()))
+            .toList();
+    var sketches = new MetricSketches();
+    matches.forEach(sketches::add);
+    return streamAggregate(matches).toMatchAggregate(champions, sketches.percentiles());
+  }
+
+  /** The averages as they used to be computed, one stream over the matches each. */
+  private static StreamedAverages streamAggregate(List<Match> matches) {
+    int total = matches.size();
+    int wins = (int) matches.stream().filter(Match::win).count();
+    return new StreamedAverages(
+        total,
+        wins,
+        new double[] {
+          average(matches, Match::kills),
+          average(matches, Match::deaths),
+          average(matches, Match::assists),
+          average(matches, Match::kda),
+          average(matches, Match::soloKills),
+          average(matches, Match::damagePerMinute),
+          average(matches, Match::damagePerGold),
+          average(matches, Match::teamDamagePercentage),
+          average(matches, Match::damageTakenPercentage),
+          average(matches, Match::killParticipation),
+          average(matches, Match::goldPerMinute),
+          average(matches, Match::csPerMinute),
+          average(matches, r -> r.csAt10() != null ? r.csAt10() : 0),
+          average(matches, r -> r.goldAt10() != null ? r.goldAt10() : 0),
+          average(matches, r -> r.goldAt15() != null ? r.goldAt15() : 0),
+          average(matches, r -> r.xpAt15() != null ? r.xpAt15() : 0),
+          average(matches, Match::damageToTurrets),
+          average(matches, Match::damageToObjectives),
+          average(matches, Match::turretPlatesTaken),
+          average(matches, Match::visionScorePerMinute),
+          average(matches, Match::wardsPlaced),
+          average(matches, Match::wardsKilled),
+          average(matches, Match::controlWardsPlaced)
+        });
+  }
+
+  private static double average(List<Match> matches, ToDoubleFunction<Match> metric) {
+    return matches.stream().mapToDouble(metric).average().orElse(0);
+  }
+
+  private record StreamedAverages(int games, int wins, double[] a) {
+    ChampionAggregate toChampionAggregate(String championName) {
+      return new ChampionAggregate(
+          championName,
+          games,
+          wins,
+          games - wins,
+          a[0],
+          a[1],
+          a[2],
+          a[3],
+          a[4],
+          a[5],
+          a[6],
+          a[7],
+          a[8],
+          a[9],
+          a[10],
+          a[11],
+          a[12],
+          a[13],
+          a[14],
+          a[15],
+          a[16],
+          a[17],
+          a[18],
+          a[19],
+          a[20],
+          a[21],
+          a[22]);
+    }
+
+    MatchAggregate toMatchAggregate(
+        List<ChampionAggregate> champions, Map<MatchMetric, MetricPercentiles> percentiles) {
+      return new MatchAggregate(
+          games,
+          wins,
+          games - wins,
+          a[0],
+          a[1],
+          a[2],
+          a[3],
+          a[4],
+          a[5],
+          a[6],
+          a[7],
+          a[8],
+          a[9],
+          a[10],
+          a[11],
+          a[12],
+          a[13],
+          a[14],
+          a[15],
+          a[16],
+          a[17],
+          a[18],
+          a[19],
+          a[20],
+          a[21],
+          a[22],
+          champions,
+          percentiles);
+    }
+  }
+}
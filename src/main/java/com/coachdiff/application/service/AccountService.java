@@ -3,16 +3,26 @@ package com.coachdiff.application.service;
 import com.coachdiff.domain.exception.AccountNotFoundException;
 import com.coachdiff.domain.exception.ErrorCode;
 import com.coachdiff.domain.model.Account;
+import com.coachdiff.domain.model.RequestOwner;
 import com.coachdiff.domain.port.in.ManageAccountPort;
+import com.coachdiff.domain.port.in.VerifyAccountPuuidsPort;
 import com.coachdiff.domain.port.out.AccountPersistencePort;
+import com.coachdiff.domain.port.out.FetchRiotAccountPort;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 @Component
-public class AccountService implements ManageAccountPort {
+public class AccountService implements ManageAccountPort, VerifyAccountPuuidsPort {
+  private static final Logger log = LoggerFactory.getLogger(AccountService.class);
   private final AccountPersistencePort accountPersistencePort;
+  private final FetchRiotAccountPort fetchRiotAccountPort;
 
-  public AccountService(AccountPersistencePort accountPersistencePort) {
+  public AccountService(
+      AccountPersistencePort accountPersistencePort, FetchRiotAccountPort fetchRiotAccountPort) {
     this.accountPersistencePort = accountPersistencePort;
+    this.fetchRiotAccountPort = fetchRiotAccountPort;
   }
 
   @Override
@@ -26,9 +36,13 @@ public class AccountService implements ManageAccountPort {
                     "Account data for " + email + " was not found"));
   }
 
+  /**
+   * Saves the account without calling Riot, so a Riot outage doesn't fail the sign-up. The PUUID is
+   * looked up on the first request that needs it, or by the next {@link #verifyPuuids()}.
+   */
   @Override
   public Account saveAccount(Account account) {
-    return accountPersistencePort.saveAccount(account);
+    return accountPersistencePort.saveAccount(account.withPuuid(null));
   }
 
   @Override
@@ -37,6 +51,11 @@ public class AccountService implements ManageAccountPort {
     var combinedAccount =
         loadedAccount.withUpdates(account.name(), account.tag(), account.role(), account.region());
 
+    // A new Riot ID drops the old PUUID; the new one is looked up later, as on sign-up
+    if (!hasSameRiotId(loadedAccount, combinedAccount)) {
+      combinedAccount = combinedAccount.withPuuid(null);
+    }
+
     accountPersistencePort.updateAccount(combinedAccount);
   }
 
@@ -45,4 +64,41 @@ public class AccountService implements ManageAccountPort {
     var account = loadAccount(email);
     accountPersistencePort.deleteAccount(account.id());
   }
+
+  /**
+   * Re-resolves every stored Riot ID. Fills PUUIDs that could not be resolved when the account was
+   * saved and picks up Riot IDs that now point to a different Riot account.
+   */
+  @Override
+  public void verifyPuuids() {
+    int updated = 0;
+    for (var account : accountPersistencePort.loadAllAccounts()) {
+      try {
+        var puuid = resolvePuuid(account);
+        if (puuid == null) {
+          log.warn("Riot ID {}#{} no longer resolves to a PUUID", account.name(), account.tag());
+        } else if (!puuid.equals(account.puuid())
+            && accountPersistencePort.savePuuid(account, puuid)) {
+          updated++;
+        }
+      } catch (RuntimeException e) {
+        log.warn("Could not verify the PUUID of account {}", account.id(), e);
+      }
+    }
+    log.info("PUUID verification finished, {} accounts updated", updated);
+  }
+
+  private String resolvePuuid(Account account) {
+    // Cached lookups would hide the Riot ID changes this is meant to catch
+    return RequestOwner.of(account)
+        .call(
+            () ->
+                fetchRiotAccountPort.refreshPuuid(account.region(), account.name(), account.tag()))
+        .orElse(null);
+  }
+
+  private static boolean hasSameRiotId(Account account, Account other) {
+    return Objects.equals(account.name(), other.name())
+        && Objects.equals(account.tag(), other.tag());
+  }
 }
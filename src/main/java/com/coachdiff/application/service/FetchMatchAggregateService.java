@@ -3,11 +3,19 @@ package com.coachdiff.application.service;
 import com.coachdiff.domain.exception.AccountNotFoundException;
 import com.coachdiff.domain.exception.ErrorCode;
 import com.coachdiff.domain.exception.SummonerProfileNotFoundException;
+import com.coachdiff.domain.model.Account;
 import com.coachdiff.domain.model.Match;
 import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchBackfill;
+import com.coachdiff.domain.model.MatchScope;
+import com.coachdiff.domain.model.MatchTrend;
+import com.coachdiff.domain.model.MatchWindows;
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.domain.model.RequestOwner;
 import com.coachdiff.domain.port.in.FetchMatchAggregatePort;
 import com.coachdiff.domain.port.out.*;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -17,49 +25,151 @@ import org.springframework.stereotype.Service;
 @Service
 public class FetchMatchAggregateService implements FetchMatchAggregatePort {
   private static final Logger log = LoggerFactory.getLogger(FetchMatchAggregateService.class);
+  // Wider trend windows cover this many games
+  private static final int MAX_TREND_WINDOW = 100;
   private final FetchRiotAccountPort fetchRiotAccountPort;
   private final FetchMatchDetailsPort fetchMatchDetailsPort;
   private final LoadMatchRecordsPort loadMatchRecordsPort;
   private final SaveMatchRecordsPort saveMatchRecordsPort;
   private final AccountPersistencePort accountPersistencePort;
+  private final MatchSyncPort matchSyncPort;
+  private final LoadMatchAggregatePort loadMatchAggregatePort;
+  private final RecentAggregateCache recentAggregateCache;
+  private final MatchBackfillPort matchBackfillPort;
+  private final InFlightCalls<AggregationKey, MatchAggregate> runningAggregations =
+      new InFlightCalls<>();
+  private final InFlightCalls<String, Long> runningRefreshes = new InFlightCalls<>();
 
   FetchMatchAggregateService(
       FetchRiotAccountPort fetchRiotAccountPort,
       FetchMatchDetailsPort fetchMatchDetailsPort,
       LoadMatchRecordsPort loadMatchRecordsPort,
       SaveMatchRecordsPort saveMatchRecordsPort,
-      AccountPersistencePort accountPersistencePort) {
+      AccountPersistencePort accountPersistencePort,
+      MatchSyncPort matchSyncPort,
+      LoadMatchAggregatePort loadMatchAggregatePort,
+      RecentAggregateCache recentAggregateCache,
+      MatchBackfillPort matchBackfillPort) {
     this.fetchRiotAccountPort = fetchRiotAccountPort;
     this.fetchMatchDetailsPort = fetchMatchDetailsPort;
     this.loadMatchRecordsPort = loadMatchRecordsPort;
     this.saveMatchRecordsPort = saveMatchRecordsPort;
     this.accountPersistencePort = accountPersistencePort;
+    this.matchSyncPort = matchSyncPort;
+    this.loadMatchAggregatePort = loadMatchAggregatePort;
+    this.recentAggregateCache = recentAggregateCache;
+    this.matchBackfillPort = matchBackfillPort;
   }
 
   @Override
-  public MatchAggregate fetchMatchAggregation(String email) {
-    var account =
-        accountPersistencePort
-            .loadAccount(email)
-            .orElseThrow(
-                () ->
-                    new AccountNotFoundException(
-                        ErrorCode.ACCOUNT_DATA_NOT_FOUND,
-                        "Account data for " + email + " was not found"));
+  public MatchAggregate fetchMatchAggregation(String email, MatchScope scope) {
+    // Parallel requests for the same dashboard join the run in progress instead of repeating it
+    return runningAggregations.join(
+        new AggregationKey(email, scope), () -> aggregateAccount(email, scope));
+  }
+
+  @Override
+  public MatchTrend fetchMatchTrend(String email, List<Integer> windows) {
+    var account = loadAccount(email);
+    return RequestOwner.of(account).call(() -> fetchMatchTrend(account, windows));
+  }
+
+  private MatchAggregate aggregateAccount(String email, MatchScope scope) {
+    var account = loadAccount(email);
+    return RequestOwner.of(account).call(() -> fetchMatchAggregation(account, scope));
+  }
 
-    var name = account.name();
-    var tag = account.tag();
+  private Account loadAccount(String email) {
+    return accountPersistencePort
+        .loadAccount(email)
+        .orElseThrow(
+            () ->
+                new AccountNotFoundException(
+                    ErrorCode.ACCOUNT_DATA_NOT_FOUND,
+                    "Account data for " + email + " was not found"));
+  }
+
+  private MatchAggregate fetchMatchAggregation(Account account, MatchScope scope) {
     var coachingRole = account.role();
+    var puuid = resolvePuuid(account);
+
+    // A RECENT and a SEASON run for the same player would otherwise both save the new games
+    long latestGameCreation = refresh(account, puuid);
+    if (scope == MatchScope.SEASON) {
+      // A season can be thousands of games, so it is averaged in the DB instead of loaded
+      return loadMatchAggregatePort.loadSeasonMatchAggregate(puuid, coachingRole);
+    }
+
+    // Every role is aggregated at once, so a role change is served from the same entry
+    return recentAggregateCache.load(puuid, latestGameCreation).forRole(coachingRole);
+  }
+
+  private MatchTrend fetchMatchTrend(Account account, List<Integer> windows) {
+    var puuid = resolvePuuid(account);
+    refresh(account, puuid);
+
+    // The widest window is the only one loaded, the others are sums over its latest games
+    int games =
+        Math.min(MAX_TREND_WINDOW, windows.stream().mapToInt(Integer::intValue).max().orElse(0));
+    var matches =
+        games > 0
+            ? loadMatchRecordsPort.loadRecentMatchRecords(puuid, account.role(), games)
+            : List.<Match>of();
+    return MatchWindows.of(matches).trend(windows);
+  }
+
+  private String resolvePuuid(Account account) {
+    // The PUUID is stored with the account; only look it up if that has not happened yet
+    if (account.puuid() != null) {
+      return account.puuid();
+    }
 
     var puuid =
         fetchRiotAccountPort
-            .getPuuid(name, tag)
+            .getPuuid(account.region(), account.name(), account.tag())
             .orElseThrow(
                 () ->
                     new SummonerProfileNotFoundException(
-                        ErrorCode.SUMMONER_NOT_FOUND, name + "#" + tag));
+                        ErrorCode.SUMMONER_NOT_FOUND, account.name() + "#" + account.tag()));
+    accountPersistencePort.savePuuid(account, puuid);
+    return puuid;
+  }
+
+  private long refresh(Account account, String puuid) {
+    return runningRefreshes.join(
+        puuid, () -> refreshRecentMatches(account.region(), puuid, account.name(), account.tag()));
+  }
+
+  /**
+   * Brings the player's latest games into the DB. Returns the creation time of the newest one,
+   * which changes whenever the player has played new games.
+   */
+  private long refreshRecentMatches(Region region, String puuid, String name, String tag) {
+    // Once a player's match list has been ingested, only games newer than the last one are asked
+    var latestGameCreation = matchSyncPort.loadLatestGameCreation(puuid);
+    var matchIds =
+        latestGameCreation
+            .map(
+                gameCreation ->
+                    fetchMatchDetailsPort.getMatchIdsByPuuidSince(region, puuid, gameCreation))
+            .orElseGet(() -> fetchMatchDetailsPort.getMatchIdsByPuuid(region, puuid));
+
+    if (latestGameCreation.isPresent() && matchIds.isEmpty()) {
+      log.info("Match aggregation for {}#{}: no new matches, served from DB", name, tag);
+      return latestGameCreation.get();
+    }
+
+    // A request only waits for the newest games; the season backfill picks up the ones between
+    if (matchIds.size() > RecentAggregateCache.RECENT_MATCH_COUNT) {
+      log.info(
+          "Match aggregation for {}#{}: {} new matches, reopening the backfill for the older ones",
+          name,
+          tag,
+          matchIds.size());
+      matchIds = matchIds.subList(0, RecentAggregateCache.RECENT_MATCH_COUNT);
+      matchBackfillPort.saveBackfill(MatchBackfill.start(puuid));
+    }
 
-    var matchIds = fetchMatchDetailsPort.getMatchIdsByPuuid(puuid);
     var matchRecords = loadMatchRecordsPort.loadExistingMatchRecords(puuid, matchIds);
     var matchIdsToFetch = excludeKnownMatchesIds(matchIds, matchRecords);
     log.info(
@@ -70,20 +180,34 @@ public class FetchMatchAggregateService implements FetchMatchAggregatePort {
         matchRecords.size(),
         matchIdsToFetch.size());
 
+    // May also hold the other participants' records, which are stored but not aggregated
+    var fetchedRecords = fetchMatchDetailsPort.getMatchRecords(region, puuid, matchIdsToFetch);
     var fetchedMatches =
-        fetchMatchDetailsPort.getMatchRecords(puuid, matchIdsToFetch).stream()
-            .filter(match -> match.gameDurationMinutes() >= 10.0)
-            .toList();
+        fetchedRecords.stream().filter(match -> match.gameDurationMinutes() >= 10.0).toList();
 
     if (!fetchedMatches.isEmpty()) {
       saveMatchRecordsPort.saveMatchRecords(fetchedMatches);
       log.info("Saved {} new match records to DB", fetchedMatches.size());
     }
 
-    return MatchAggregate.fromMatchRecordList(
-        Stream.concat(matchRecords.stream(), fetchedMatches.stream())
-            .filter(match -> match.role() == coachingRole)
-            .toList());
+    // Remakes count too, otherwise they would be listed and fetched again on every request
+    return updateLatestGameCreation(
+        puuid, latestGameCreation, Stream.concat(matchRecords.stream(), fetchedRecords.stream()));
+  }
+
+  private long updateLatestGameCreation(
+      String puuid, Optional<Long> latestGameCreation, Stream<Match> matches) {
+    var newest =
+        matches
+            .filter(match -> match.puuid().equals(puuid) && match.gameCreation() != null)
+            .mapToLong(Match::gameCreation)
+            .max();
+
+    if (newest.isPresent() && latestGameCreation.orElse(Long.MIN_VALUE) < newest.getAsLong()) {
+      matchSyncPort.saveLatestGameCreation(puuid, newest.getAsLong());
+      return newest.getAsLong();
+    }
+    return latestGameCreation.orElse(0L);
   }
 
   private List<String> excludeKnownMatchesIds(List<String> matchIds, List<Match> matches) {
@@ -91,4 +215,6 @@ public class FetchMatchAggregateService implements FetchMatchAggregatePort {
 
     return matchIds.stream().filter(matchId -> !existingIds.contains(matchId)).toList();
   }
+
+  private record AggregationKey(String email, MatchScope scope) {}
 }
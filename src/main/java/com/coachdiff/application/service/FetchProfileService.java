@@ -1,8 +1,10 @@
 package com.coachdiff.application.service;
 
 import com.coachdiff.domain.exception.*;
+import com.coachdiff.domain.model.Account;
 import com.coachdiff.domain.model.Profile;
 import com.coachdiff.domain.model.Rank;
+import com.coachdiff.domain.model.RequestOwner;
 import com.coachdiff.domain.model.Summoner;
 import com.coachdiff.domain.port.in.FetchProfilePort;
 import com.coachdiff.domain.port.out.AccountPersistencePort;
@@ -44,20 +46,17 @@ public class FetchProfileService implements FetchProfilePort {
                     new AccountNotFoundException(
                         ErrorCode.ACCOUNT_DATA_NOT_FOUND, "Account data not found for " + email));
 
-    var puuid =
-        fetchRiotAccountPort
-            .getPuuid(account.name(), account.tag())
-            .orElseThrow(
-                () ->
-                    new SummonerProfileNotFoundException(
-                        ErrorCode.SUMMONER_NOT_FOUND,
-                        "Profile not found for " + account.name() + "#" + account.tag()));
+    return RequestOwner.of(account).call(() -> fetchProfile(account));
+  }
+
+  private Profile fetchProfile(Account account) {
+    var puuid = resolvePuuid(account);
 
     try (var scope = StructuredTaskScope.open()) {
       StructuredTaskScope.Subtask<Optional<Rank>> leagueDataTask =
-          scope.fork(() -> fetchLeagueDataPort.getLeagueDataByPuuid(puuid));
+          scope.fork(() -> fetchLeagueDataPort.getLeagueDataByPuuid(account.region(), puuid));
       StructuredTaskScope.Subtask<Optional<Summoner>> summonerDataTask =
-          scope.fork(() -> fetchSummonerDataPort.getSummonerDataByPuuid(puuid));
+          scope.fork(() -> fetchSummonerDataPort.getSummonerDataByPuuid(account.region(), puuid));
 
       scope.join();
 
@@ -82,7 +81,8 @@ public class FetchProfileService implements FetchProfilePort {
                               + "#"
                               + account.tag()));
 
-      return Profile.composeProfile(account.name(), account.tag(), summonerData, leagueData);
+      return Profile.composeProfile(
+          account.name(), account.tag(), account.region(), summonerData, leagueData);
     } catch (InterruptedException e) {
       log.error("Thread interrupted while fetching profile data", e);
       Thread.currentThread().interrupt();
@@ -94,4 +94,22 @@ public class FetchProfileService implements FetchProfilePort {
       throw new RuntimeException(e.getCause());
     }
   }
+
+  private String resolvePuuid(Account account) {
+    // The PUUID is stored with the account; only look it up if that has not happened yet
+    if (account.puuid() != null) {
+      return account.puuid();
+    }
+
+    var puuid =
+        fetchRiotAccountPort
+            .getPuuid(account.region(), account.name(), account.tag())
+            .orElseThrow(
+                () ->
+                    new SummonerProfileNotFoundException(
+                        ErrorCode.SUMMONER_NOT_FOUND,
+                        "Profile not found for " + account.name() + "#" + account.tag()));
+    accountPersistencePort.savePuuid(account, puuid);
+    return puuid;
+  }
 }
@@ -0,0 +1,48 @@
+package com.coachdiff.application.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key at a time. Callers arriving while it runs wait for it and
+ * get the same result, or the same exception, instead of starting their own.
+ */
+class InFlightCalls<K, V> {
+  private final Map<K, CompletableFuture<V>> running = new ConcurrentHashMap<>();
+
+  V join(K key, Supplier<V> computation) {
+    var call = new CompletableFuture<V>();
+    var existing = running.putIfAbsent(key, call);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      var result = computation.get();
+      call.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      running.remove(key, call);
+    }
+  }
+
+  private V await(CompletableFuture<V> call) {
+    try {
+      return call.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+}
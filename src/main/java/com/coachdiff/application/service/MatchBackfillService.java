@@ -0,0 +1,108 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.Account;
+import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.MatchBackfill;
+import com.coachdiff.domain.model.RequestOwner;
+import com.coachdiff.domain.port.in.BackfillMatchesPort;
+import com.coachdiff.domain.port.out.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Walks each account's season match list page by page and stores the games that are missing. The
+ * checkpoint is saved after every page, so an interrupted run resumes where it stopped.
+ */
+@Service
+public class MatchBackfillService implements BackfillMatchesPort {
+  private static final Logger log = LoggerFactory.getLogger(MatchBackfillService.class);
+  private static final int PAGE_SIZE = 100;
+  // Small batches keep the backfill from taking the whole rate limit away from live requests
+  private static final int FETCH_BATCH_SIZE = 5;
+
+  private final AccountPersistencePort accountPersistencePort;
+  private final FetchMatchDetailsPort fetchMatchDetailsPort;
+  private final LoadMatchRecordsPort loadMatchRecordsPort;
+  private final SaveMatchRecordsPort saveMatchRecordsPort;
+  private final MatchBackfillPort matchBackfillPort;
+  private final RecentAggregateCache recentAggregateCache;
+
+  MatchBackfillService(
+      AccountPersistencePort accountPersistencePort,
+      FetchMatchDetailsPort fetchMatchDetailsPort,
+      LoadMatchRecordsPort loadMatchRecordsPort,
+      SaveMatchRecordsPort saveMatchRecordsPort,
+      MatchBackfillPort matchBackfillPort,
+      RecentAggregateCache recentAggregateCache) {
+    this.accountPersistencePort = accountPersistencePort;
+    this.fetchMatchDetailsPort = fetchMatchDetailsPort;
+    this.loadMatchRecordsPort = loadMatchRecordsPort;
+    this.saveMatchRecordsPort = saveMatchRecordsPort;
+    this.matchBackfillPort = matchBackfillPort;
+    this.recentAggregateCache = recentAggregateCache;
+  }
+
+  @Override
+  public void backfillAccounts() {
+    for (var account : accountPersistencePort.loadAllAccounts()) {
+      if (account.puuid() == null) {
+        continue;
+      }
+
+      try {
+        RequestOwner.of(account).run(() -> backfill(account));
+      } catch (RuntimeException e) {
+        log.warn("Match backfill for {}#{} stopped", account.name(), account.tag(), e);
+      }
+    }
+  }
+
+  void backfill(Account account) {
+    var puuid = account.puuid();
+    var backfill =
+        matchBackfillPort.loadBackfill(puuid).orElseGet(() -> MatchBackfill.start(puuid));
+
+    while (!backfill.completed()) {
+      var matchIds =
+          fetchMatchDetailsPort.getSeasonMatchIdsPage(
+              account.region(), puuid, backfill.nextStart(), PAGE_SIZE);
+      var missingIds = excludeKnownMatchIds(puuid, matchIds);
+      log.info(
+          "Match backfill for {}#{} at {}: {} listed, {} missing",
+          account.name(),
+          account.tag(),
+          backfill.nextStart(),
+          matchIds.size(),
+          missingIds.size());
+
+      var matches = new ArrayList<Match>();
+      for (int i = 0; i < missingIds.size(); i += FETCH_BATCH_SIZE) {
+        var batch = missingIds.subList(i, Math.min(i + FETCH_BATCH_SIZE, missingIds.size()));
+        fetchMatchDetailsPort.getMatchRecords(account.region(), puuid, batch).stream()
+            .filter(match -> match.gameDurationMinutes() >= 10.0)
+            .forEach(matches::add);
+      }
+      // One bulk load per page, after the Riot calls so they don't hold a database connection
+      if (!matches.isEmpty() && saveMatchRecordsPort.bulkSaveMatchRecords(matches.stream()) > 0) {
+        // Older games don't move the cache key, but may be among a rarely played role's latest
+        recentAggregateCache.evict(puuid);
+      }
+
+      backfill = backfill.advance(matchIds.size(), matchIds.size() < PAGE_SIZE);
+      matchBackfillPort.saveBackfill(backfill);
+    }
+  }
+
+  private List<String> excludeKnownMatchIds(String puuid, List<String> matchIds) {
+    var knownIds =
+        loadMatchRecordsPort.loadExistingMatchRecords(puuid, matchIds).stream()
+            .map(Match::matchId)
+            .collect(Collectors.toSet());
+
+    return matchIds.stream().filter(matchId -> !knownIds.contains(matchId)).toList();
+  }
+}
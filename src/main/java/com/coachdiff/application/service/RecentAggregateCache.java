@@ -0,0 +1,45 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.RoleAggregates;
+import com.coachdiff.domain.port.out.LoadMatchRecordsPort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aggregates of a player's recent games in every role, cached per player. An entry is only served
+ * for the creation time of the player's newest synced game it was built at, so new games make the
+ * next request rebuild it. Older games stored later, as by the backfill, evict it instead.
+ */
+@Component
+class RecentAggregateCache {
+  // Games per role, and the most new games one refresh fetches; the backfill stores the rest
+  static final int RECENT_MATCH_COUNT = 20;
+
+  private final LoadMatchRecordsPort loadMatchRecordsPort;
+  private final Cache cache;
+
+  RecentAggregateCache(LoadMatchRecordsPort loadMatchRecordsPort, CacheManager cacheManager) {
+    this.loadMatchRecordsPort = loadMatchRecordsPort;
+    this.cache = cacheManager.getCache("recent-role-aggregates");
+  }
+
+  RoleAggregates load(String puuid, long latestGameCreation) {
+    var cached = cache.get(puuid, Entry.class);
+    if (cached != null && cached.latestGameCreation() == latestGameCreation) {
+      return cached.aggregates();
+    }
+
+    var aggregates =
+        RoleAggregates.of(
+            loadMatchRecordsPort.loadRecentMatchRecordsPerRole(puuid, RECENT_MATCH_COUNT));
+    cache.put(puuid, new Entry(latestGameCreation, aggregates));
+    return aggregates;
+  }
+
+  void evict(String puuid) {
+    cache.evict(puuid);
+  }
+
+  private record Entry(long latestGameCreation, RoleAggregates aggregates) {}
+}
@@ -7,11 +7,17 @@ public record Account(
     String email,
     String name,
     String tag,
+    String puuid,
     Role role,
     Region region,
     Map<Permission, Boolean> permissions) {
 
   public Account withUpdates(String name, String tag, Role role, Region region) {
-    return new Account(this.id, this.email, name, tag, role, region, this.permissions);
+    return new Account(this.id, this.email, name, tag, this.puuid, role, region, this.permissions);
+  }
+
+  public Account withPuuid(String puuid) {
+    return new Account(
+        this.id, this.email, this.name, this.tag, puuid, this.role, this.region, this.permissions);
   }
 }
@@ -5,6 +5,7 @@ public record Match(
     String puuid,
     boolean win,
     double gameDurationMinutes,
+    Long gameCreation,
     String championName,
     Role role,
     int kills,
@@ -0,0 +1,28 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Folds matches one at a time into a {@link MatchAggregate}, overall and per champion. */
+final class MatchAggregator {
+  private final Map<String, MetricAccumulator> byChampion = new HashMap<>();
+  private final MetricSketches sketches = new MetricSketches();
+
+  void add(Match match) {
+    byChampion.computeIfAbsent(match.championName(), c -> new MetricAccumulator()).add(match);
+    sketches.add(match);
+  }
+
+  MatchAggregate toMatchAggregate() {
+    var overall = new MetricAccumulator();
+    List<ChampionAggregate> championsAggregate = new ArrayList<>(byChampion.size());
+    for (var entry : byChampion.entrySet()) {
+      overall.merge(entry.getValue());
+      championsAggregate.add(entry.getValue().toChampionAggregate(entry.getKey()));
+    }
+
+    return overall.toMatchAggregate(List.copyOf(championsAggregate), sketches.percentiles());
+  }
+}
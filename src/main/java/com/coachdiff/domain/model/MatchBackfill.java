@@ -0,0 +1,16 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Progress of a player's season backfill: the index in Riot's newest-first match list to resume at,
+ * and whether the list has been read back to the season start.
+ */
+public record MatchBackfill(String puuid, int nextStart, boolean completed) {
+
+  public static MatchBackfill start(String puuid) {
+    return new MatchBackfill(puuid, 0, false);
+  }
+
+  public MatchBackfill advance(int pageSize, boolean lastPage) {
+    return new MatchBackfill(puuid, nextStart + pageSize, lastPage);
+  }
+}
@@ -0,0 +1,65 @@
+package com.coachdiff.domain.model;
+
+/** The per-game stats that are averaged into a {@link MatchAggregate}, in the same order. */
+public enum MatchMetric {
+  // Combat
+  KILLS,
+  DEATHS,
+  ASSISTS,
+  KDA,
+  SOLO_KILLS,
+  DAMAGE_PER_MINUTE,
+  DAMAGE_PER_GOLD,
+  TEAM_DAMAGE_PERCENTAGE,
+  DAMAGE_TAKEN_PERCENTAGE,
+  KILL_PARTICIPATION,
+  // Economy
+  GOLD_PER_MINUTE,
+  CS_PER_MINUTE,
+  CS_AT_10,
+  GOLD_AT_10,
+  GOLD_AT_15,
+  XP_AT_15,
+  // Objectives
+  DAMAGE_TO_TURRETS,
+  DAMAGE_TO_OBJECTIVES,
+  TURRET_PLATES_TAKEN,
+  // Vision
+  VISION_SCORE_PER_MINUTE,
+  WARDS_PLACED,
+  WARDS_KILLED,
+  CONTROL_WARDS_PLACED;
+
+  /** The stat of {@code match}, 0 if it is a timeline stat the game did not reach. */
+  public double valueIn(Match match) {
+    return switch (this) {
+      case KILLS -> match.kills();
+      case DEATHS -> match.deaths();
+      case ASSISTS -> match.assists();
+      case KDA -> match.kda();
+      case SOLO_KILLS -> match.soloKills();
+      case DAMAGE_PER_MINUTE -> match.damagePerMinute();
+      case DAMAGE_PER_GOLD -> match.damagePerGold();
+      case TEAM_DAMAGE_PERCENTAGE -> match.teamDamagePercentage();
+      case DAMAGE_TAKEN_PERCENTAGE -> match.damageTakenPercentage();
+      case KILL_PARTICIPATION -> match.killParticipation();
+      case GOLD_PER_MINUTE -> match.goldPerMinute();
+      case CS_PER_MINUTE -> match.csPerMinute();
+      case CS_AT_10 -> orZero(match.csAt10());
+      case GOLD_AT_10 -> orZero(match.goldAt10());
+      case GOLD_AT_15 -> orZero(match.goldAt15());
+      case XP_AT_15 -> orZero(match.xpAt15());
+      case DAMAGE_TO_TURRETS -> match.damageToTurrets();
+      case DAMAGE_TO_OBJECTIVES -> match.damageToObjectives();
+      case TURRET_PLATES_TAKEN -> match.turretPlatesTaken();
+      case VISION_SCORE_PER_MINUTE -> match.visionScorePerMinute();
+      case WARDS_PLACED -> match.wardsPlaced();
+      case WARDS_KILLED -> match.wardsKilled();
+      case CONTROL_WARDS_PLACED -> match.controlWardsPlaced();
+    };
+  }
+
+  private static double orZero(Double value) {
+    return value != null ? value : 0;
+  }
+}
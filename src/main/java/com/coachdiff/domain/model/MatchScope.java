@@ -0,0 +1,12 @@
+package com.coachdiff.domain.model;
+
+/** Which stored games a match aggregation covers. */
+public enum MatchScope {
+  /**
+   * The 20 most recent ranked games played in the coaching role, however many games in other roles
+   * came in between.
+   */
+  RECENT,
+  /** Every stored ranked game of the current season, including backfilled ones. */
+  SEASON
+}
@@ -0,0 +1,6 @@
+package com.coachdiff.domain.model;
+
+import java.util.List;
+
+/** Windows of a player's most recent games, smallest first, compared to the widest one. */
+public record MatchTrend(int baselineWindow, List<MatchWindow> windows) {}
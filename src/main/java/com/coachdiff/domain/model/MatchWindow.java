@@ -0,0 +1,16 @@
+package com.coachdiff.domain.model;
+
+import java.util.Map;
+
+/**
+ * Averages over a player's {@code window} most recent games, and how far they are from the widest
+ * window of the same {@link MatchTrend}: positive deltas mean the recent games are above it.
+ */
+public record MatchWindow(
+    int window,
+    int gamesAnalyzed,
+    int wins,
+    double winRate,
+    Map<MatchMetric, Double> averages,
+    double winRateDelta,
+    Map<MatchMetric, Double> deltas) {}
@@ -0,0 +1,106 @@
+package com.coachdiff.domain.model;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches sorted from the most recent, with the running sum of every {@link MatchMetric}. The sums
+ * over the latest {@code n} games are read off directly, so any number of windows costs one sort
+ * and one pass, and each window is then averaged in O(metrics). Missing timeline stats count as 0,
+ * as in {@link MatchAggregate}.
+ */
+public final class MatchWindows {
+  private static final MatchMetric[] METRICS = MatchMetric.values();
+
+  private final int size;
+  // prefix[n * METRICS.length + m] is the sum of metric m over the n most recent games
+  private final double[] prefix;
+  private final int[] winPrefix;
+
+  private MatchWindows(int size, double[] prefix, int[] winPrefix) {
+    this.size = size;
+    this.prefix = prefix;
+    this.winPrefix = winPrefix;
+  }
+
+  public static MatchWindows of(List<Match> matches) {
+    var sorted =
+        matches.stream()
+            .sorted(
+                Comparator.comparing(
+                    Match::gameCreation, Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+
+    int size = sorted.size();
+    int stride = METRICS.length;
+    var prefix = new double[(size + 1) * stride];
+    var winPrefix = new int[size + 1];
+    for (int n = 0; n < size; n++) {
+      var match = sorted.get(n);
+      int previous = n * stride;
+      int next = previous + stride;
+      for (int m = 0; m < stride; m++) {
+        prefix[next + m] = prefix[previous + m] + METRICS[m].valueIn(match);
+      }
+      winPrefix[n + 1] = winPrefix[n] + (match.win() ? 1 : 0);
+    }
+    return new MatchWindows(size, prefix, winPrefix);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The requested windows, compared to the widest one. Windows that aren't positive are dropped,
+   * and windows wider than the stored games cover all of them.
+   */
+  public MatchTrend trend(List<Integer> windows) {
+    var requested = windows.stream().filter(w -> w > 0).distinct().sorted().toList();
+    if (requested.isEmpty()) {
+      return new MatchTrend(0, List.of());
+    }
+
+    int baselineWindow = requested.getLast();
+    int baselineGames = Math.min(baselineWindow, size);
+    var baseline = averages(baselineGames);
+    double baselineWinRate = winRate(baselineGames);
+
+    var result =
+        requested.stream()
+            .map(
+                window -> {
+                  int games = Math.min(window, size);
+                  var averages = averages(games);
+                  var deltas = new EnumMap<MatchMetric, Double>(MatchMetric.class);
+                  averages.forEach(
+                      (metric, average) -> deltas.put(metric, average - baseline.get(metric)));
+                  return new MatchWindow(
+                      window,
+                      games,
+                      winPrefix[games],
+                      winRate(games),
+                      averages,
+                      winRate(games) - baselineWinRate,
+                      Collections.unmodifiableMap(deltas));
+                })
+            .toList();
+    return new MatchTrend(baselineWindow, result);
+  }
+
+  private Map<MatchMetric, Double> averages(int games) {
+    var averages = new EnumMap<MatchMetric, Double>(MatchMetric.class);
+    int offset = games * METRICS.length;
+    for (int m = 0; m < METRICS.length; m++) {
+      averages.put(METRICS[m], games == 0 ? 0 : prefix[offset + m] / games);
+    }
+    return Collections.unmodifiableMap(averages);
+  }
+
+  private double winRate(int games) {
+    return games == 0 ? 0 : (double) winPrefix[games] / games;
+  }
+}
@@ -0,0 +1,112 @@
+package com.coachdiff.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running sums of the aggregated match stats, kept in one {@code double[]} indexed by {@link
+ * MatchMetric}, each read from a match with {@link MatchMetric#valueIn}. Accumulators over disjoint
+ * matches can be merged, e.g. the per-champion ones into the overall one.
+ */
+final class MetricAccumulator {
+  private static final MatchMetric[] METRICS = MatchMetric.values();
+
+  private final double[] sums = new double[METRICS.length];
+  private int games;
+  private int wins;
+
+  void add(Match match) {
+    games++;
+    if (match.win()) {
+      wins++;
+    }
+
+    for (var metric : METRICS) {
+      sums[metric.ordinal()] += metric.valueIn(match);
+    }
+  }
+
+  void merge(MetricAccumulator other) {
+    games += other.games;
+    wins += other.wins;
+    for (int i = 0; i < sums.length; i++) {
+      sums[i] += other.sums[i];
+    }
+  }
+
+  ChampionAggregate toChampionAggregate(String championName) {
+    return new ChampionAggregate(
+        championName,
+        games,
+        wins,
+        games - wins,
+        // Combat
+        average(MatchMetric.KILLS),
+        average(MatchMetric.DEATHS),
+        average(MatchMetric.ASSISTS),
+        average(MatchMetric.KDA),
+        average(MatchMetric.SOLO_KILLS),
+        average(MatchMetric.DAMAGE_PER_MINUTE),
+        average(MatchMetric.DAMAGE_PER_GOLD),
+        average(MatchMetric.TEAM_DAMAGE_PERCENTAGE),
+        average(MatchMetric.DAMAGE_TAKEN_PERCENTAGE),
+        average(MatchMetric.KILL_PARTICIPATION),
+        // Economy
+        average(MatchMetric.GOLD_PER_MINUTE),
+        average(MatchMetric.CS_PER_MINUTE),
+        average(MatchMetric.CS_AT_10),
+        average(MatchMetric.GOLD_AT_10),
+        average(MatchMetric.GOLD_AT_15),
+        average(MatchMetric.XP_AT_15),
+        // Objectives
+        average(MatchMetric.DAMAGE_TO_TURRETS),
+        average(MatchMetric.DAMAGE_TO_OBJECTIVES),
+        average(MatchMetric.TURRET_PLATES_TAKEN),
+        // Vision
+        average(MatchMetric.VISION_SCORE_PER_MINUTE),
+        average(MatchMetric.WARDS_PLACED),
+        average(MatchMetric.WARDS_KILLED),
+        average(MatchMetric.CONTROL_WARDS_PLACED));
+  }
+
+  MatchAggregate toMatchAggregate(
+      List<ChampionAggregate> championsAggregate, Map<MatchMetric, MetricPercentiles> percentiles) {
+    return new MatchAggregate(
+        games,
+        wins,
+        games - wins,
+        // Combat
+        average(MatchMetric.KILLS),
+        average(MatchMetric.DEATHS),
+        average(MatchMetric.ASSISTS),
+        average(MatchMetric.KDA),
+        average(MatchMetric.SOLO_KILLS),
+        average(MatchMetric.DAMAGE_PER_MINUTE),
+        average(MatchMetric.DAMAGE_PER_GOLD),
+        average(MatchMetric.TEAM_DAMAGE_PERCENTAGE),
+        average(MatchMetric.DAMAGE_TAKEN_PERCENTAGE),
+        average(MatchMetric.KILL_PARTICIPATION),
+        // Economy
+        average(MatchMetric.GOLD_PER_MINUTE),
+        average(MatchMetric.CS_PER_MINUTE),
+        average(MatchMetric.CS_AT_10),
+        average(MatchMetric.GOLD_AT_10),
+        average(MatchMetric.GOLD_AT_15),
+        average(MatchMetric.XP_AT_15),
+        // Objectives
+        average(MatchMetric.DAMAGE_TO_TURRETS),
+        average(MatchMetric.DAMAGE_TO_OBJECTIVES),
+        average(MatchMetric.TURRET_PLATES_TAKEN),
+        // Vision
+        average(MatchMetric.VISION_SCORE_PER_MINUTE),
+        average(MatchMetric.WARDS_PLACED),
+        average(MatchMetric.WARDS_KILLED),
+        average(MatchMetric.CONTROL_WARDS_PLACED),
+        championsAggregate,
+        percentiles);
+  }
+
+  private double average(MatchMetric metric) {
+    return games == 0 ? 0 : sums[metric.ordinal()] / games;
+  }
+}
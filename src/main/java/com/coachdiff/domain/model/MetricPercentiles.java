@@ -0,0 +1,13 @@
+package com.coachdiff.domain.model;
+
+/** Quartiles and 90th percentile of one {@link MatchMetric} over the aggregated games. */
+public record MetricPercentiles(double p25, double p50, double p75, double p90) {
+
+  public static MetricPercentiles of(QuantileSketch sketch) {
+    if (sketch.count() == 0) {
+      return new MetricPercentiles(0, 0, 0, 0);
+    }
+    return new MetricPercentiles(
+        sketch.quantile(0.25), sketch.quantile(0.5), sketch.quantile(0.75), sketch.quantile(0.9));
+  }
+}
@@ -0,0 +1,99 @@
+package com.coachdiff.domain.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One {@link QuantileSketch} per benchmarked {@link MatchMetric}, the stats compared against the
+ * {@link Benchmark} of a rank. Memory stays bounded however many games are added, and sketches of
+ * different windows or accounts merge into the sketch of all their games. {@link #toBytes()} lets a
+ * stored sketch take in new games without reading the old ones again.
+ */
+public final class MetricSketches {
+  static final List<MatchMetric> METRICS =
+      List.of(
+          MatchMetric.CS_PER_MINUTE,
+          MatchMetric.KDA,
+          MatchMetric.GOLD_PER_MINUTE,
+          MatchMetric.DAMAGE_PER_MINUTE,
+          MatchMetric.VISION_SCORE_PER_MINUTE,
+          MatchMetric.KILL_PARTICIPATION);
+
+  private final Map<MatchMetric, QuantileSketch> sketches;
+
+  public MetricSketches() {
+    this(new EnumMap<>(MatchMetric.class));
+    for (var metric : METRICS) {
+      sketches.put(metric, new QuantileSketch());
+    }
+  }
+
+  private MetricSketches(Map<MatchMetric, QuantileSketch> sketches) {
+    this.sketches = sketches;
+  }
+
+  /** Reads back sketches written by {@link #toBytes()}; metrics it doesn't hold start empty. */
+  public static MetricSketches fromBytes(byte[] bytes) {
+    var metricSketches = new MetricSketches();
+    var in = ByteBuffer.wrap(bytes);
+    int count = in.getInt();
+    for (int i = 0; i < count; i++) {
+      var name = new byte[in.getShort()];
+      in.get(name);
+      var sketch = new byte[in.getInt()];
+      in.get(sketch);
+      var metric = MatchMetric.valueOf(new String(name, StandardCharsets.US_ASCII));
+      if (metricSketches.sketches.containsKey(metric)) {
+        metricSketches.sketches.put(metric, QuantileSketch.fromBytes(sketch));
+      }
+    }
+    return metricSketches;
+  }
+
+  public void add(Match match) {
+    for (var metric : METRICS) {
+      sketches.get(metric).add(metric.valueIn(match));
+    }
+  }
+
+  /** Adds one game's value of {@code metric}, which must be one of {@link #METRICS}. */
+  void add(MatchMetric metric, double value) {
+    sketches.get(metric).add(value);
+  }
+
+  public void merge(MetricSketches other) {
+    other.sketches.forEach((metric, sketch) -> sketches.get(metric).merge(sketch));
+  }
+
+  /** Each metric's name and sketch, so the encoding still reads after {@link #METRICS} changes. */
+  public byte[] toBytes() {
+    var encoded = new EnumMap<MatchMetric, byte[]>(MatchMetric.class);
+    int size = Integer.BYTES;
+    for (var entry : sketches.entrySet()) {
+      var sketch = entry.getValue().toBytes();
+      encoded.put(entry.getKey(), sketch);
+      size += Short.BYTES + entry.getKey().name().length() + Integer.BYTES + sketch.length;
+    }
+
+    var out = ByteBuffer.allocate(size);
+    out.putInt(encoded.size());
+    encoded.forEach(
+        (metric, sketch) -> {
+          out.putShort((short) metric.name().length());
+          out.put(metric.name().getBytes(StandardCharsets.US_ASCII));
+          out.putInt(sketch.length);
+          out.put(sketch);
+        });
+    return out.array();
+  }
+
+  public Map<MatchMetric, MetricPercentiles> percentiles() {
+    var percentiles = new EnumMap<MatchMetric, MetricPercentiles>(MatchMetric.class);
+    sketches.forEach((metric, sketch) -> percentiles.put(metric, MetricPercentiles.of(sketch)));
+    return Collections.unmodifiableMap(percentiles);
+  }
+}
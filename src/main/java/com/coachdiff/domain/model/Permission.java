@@ -4,10 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 public enum Permission {
-  BASE_USE("base_use"),
-  COACH_USE("coach_use");
+  BASE_USE("base_use", 1),
+  COACH_USE("coach_use", 4);
 
   private final String key;
+  // Share of the Riot request budget relative to other active accounts
+  private final int requestWeight;
   private static final Map<String, Permission> KEY_LOOKUP = new HashMap<>();
 
   static {
@@ -16,14 +18,19 @@ public enum Permission {
     }
   }
 
-  Permission(String key) {
+  Permission(String key, int requestWeight) {
     this.key = key;
+    this.requestWeight = requestWeight;
   }
 
   public String getKey() {
     return key;
   }
 
+  public int getRequestWeight() {
+    return requestWeight;
+  }
+
   public static Permission fromKey(String key) {
     var permission = KEY_LOOKUP.get(key);
 
@@ -13,14 +13,15 @@ public record Profile(
     int gamesPlayed,
     Double winRate) {
 
-  public static Profile composeProfile(String name, String tag, Summoner summoner, Rank rank) {
+  public static Profile composeProfile(
+      String name, String tag, Region region, Summoner summoner, Rank rank) {
     var gamesPlayed = rank.wins() + rank.losses();
     var winRate = gamesPlayed == 0 ? 0.0 : (double) rank.wins() / gamesPlayed;
 
     return new Profile(
         name,
         tag,
-        Region.EUW1, // Fixed for now
+        region,
         summoner.profileIconURI(),
         rank.tier(),
         rank.division(),
@@ -0,0 +1,56 @@
+package com.coachdiff.domain.model;
+
+import com.tdunning.math.stats.MergingDigest;
+import java.nio.ByteBuffer;
+
+/**
+ * Approximate quantiles of a stream of values in bounded memory, backed by a merging t-digest.
+ * Values are kept as weighted centroids, small near the tails and large around the median, so the
+ * extreme quantiles stay accurate. Sketches of different games, windows or accounts can be merged,
+ * and stored as bytes to be merged again later.
+ */
+public final class QuantileSketch {
+  private static final double COMPRESSION = 100;
+
+  private final MergingDigest digest;
+
+  public QuantileSketch() {
+    this(new MergingDigest(COMPRESSION));
+  }
+
+  private QuantileSketch(MergingDigest digest) {
+    this.digest = digest;
+  }
+
+  /** Reads back a sketch written by {@link #toBytes()}. */
+  public static QuantileSketch fromBytes(byte[] bytes) {
+    return new QuantileSketch(MergingDigest.fromBytes(ByteBuffer.wrap(bytes)));
+  }
+
+  public void add(double value) {
+    digest.add(value);
+  }
+
+  public void merge(QuantileSketch other) {
+    digest.add(other.digest);
+  }
+
+  public long count() {
+    return digest.size();
+  }
+
+  /** The value below which a fraction {@code q} of the values fall; NaN if nothing was added. */
+  public double quantile(double q) {
+    return digest.quantile(q);
+  }
+
+  /**
+   * The digest's full-precision encoding, 16 bytes per centroid. The compact one rounds the means to
+   * floats, which would drift a stored sketch away from the values it was built from.
+   */
+  public byte[] toBytes() {
+    var buffer = ByteBuffer.allocate(digest.byteSize());
+    digest.asBytes(buffer);
+    return buffer.array();
+  }
+}
@@ -0,0 +1,39 @@
+package com.coachdiff.domain.model;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The account on whose behalf outgoing Riot calls are made. The shared Riot budget is split between
+ * active owners by {@code weight}; calls made outside of any owner share the anonymous slot.
+ */
+public record RequestOwner(Long accountId, int weight) {
+  public static final RequestOwner ANONYMOUS = new RequestOwner(null, 1);
+  public static final ScopedValue<RequestOwner> CURRENT = ScopedValue.newInstance();
+
+  public static RequestOwner of(Account account) {
+    var permissions =
+        account.permissions() == null ? Map.<Permission, Boolean>of() : account.permissions();
+    int weight =
+        permissions.entrySet().stream()
+            .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+            .mapToInt(entry -> entry.getKey().getRequestWeight())
+            .max()
+            .orElse(1);
+
+    return new RequestOwner(account.id(), weight);
+  }
+
+  public static RequestOwner current() {
+    return CURRENT.orElse(ANONYMOUS);
+  }
+
+  /** Runs {@code task} so its Riot calls, forked subtasks included, are charged to this owner. */
+  public void run(Runnable task) {
+    ScopedValue.where(CURRENT, this).run(task);
+  }
+
+  public <T> T call(Supplier<T> task) {
+    return ScopedValue.where(CURRENT, this).call(task::get);
+  }
+}
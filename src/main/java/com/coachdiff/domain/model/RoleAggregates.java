@@ -0,0 +1,41 @@
+package com.coachdiff.domain.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A player's games aggregated separately for every role they played, in a single pass. Switching
+ * the coaching role or comparing roles reads another entry instead of aggregating again.
+ */
+public final class RoleAggregates {
+  private static final MatchAggregate EMPTY = MatchAggregate.fromMatchRecordList(List.of());
+
+  private final Map<Role, MatchAggregate> aggregates;
+
+  private RoleAggregates(Map<Role, MatchAggregate> aggregates) {
+    this.aggregates = aggregates;
+  }
+
+  public static RoleAggregates of(List<Match> matches) {
+    var byRole = new EnumMap<Role, MatchAggregator>(Role.class);
+    for (var match : matches) {
+      byRole.computeIfAbsent(match.role(), r -> new MatchAggregator()).add(match);
+    }
+
+    var aggregates = new EnumMap<Role, MatchAggregate>(Role.class);
+    byRole.forEach((role, aggregator) -> aggregates.put(role, aggregator.toMatchAggregate()));
+    return new RoleAggregates(Collections.unmodifiableMap(aggregates));
+  }
+
+  /** The aggregate of the games played in {@code role}, empty if there are none. */
+  public MatchAggregate forRole(Role role) {
+    return aggregates.getOrDefault(role, EMPTY);
+  }
+
+  /** The aggregates of the roles with at least one game. */
+  public Map<Role, MatchAggregate> byRole() {
+    return aggregates;
+  }
+}
@@ -1,7 +1,13 @@
 package com.coachdiff.domain.port.in;
 
 import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchScope;
+import com.coachdiff.domain.model.MatchTrend;
+import java.util.List;
 
 public interface FetchMatchAggregatePort {
-  MatchAggregate fetchMatchAggregation(String email);
+  MatchAggregate fetchMatchAggregation(String email, MatchScope scope);
+
+  /** Averages over each window of most recent games, e.g. the last 5 against the last 20. */
+  MatchTrend fetchMatchTrend(String email, List<Integer> windows);
 }
@@ -0,0 +1,5 @@
+package com.coachdiff.domain.port.in;
+
+public interface VerifyAccountPuuidsPort {
+  void verifyPuuids();
+}
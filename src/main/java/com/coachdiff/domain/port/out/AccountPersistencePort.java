@@ -1,14 +1,23 @@
 package com.coachdiff.domain.port.out;
 
 import com.coachdiff.domain.model.Account;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountPersistencePort {
   Optional<Account> loadAccount(String email);
 
+  List<Account> loadAllAccounts();
+
   Account saveAccount(Account account);
 
   void updateAccount(Account account);
 
+  /**
+   * Stores {@code puuid} on the account, unless its Riot ID was changed since {@code account} was
+   * loaded. Returns whether it was stored.
+   */
+  boolean savePuuid(Account account, String puuid);
+
   void deleteAccount(Long id);
 }
@@ -1,8 +1,9 @@
 package com.coachdiff.domain.port.out;
 
 import com.coachdiff.domain.model.Rank;
+import com.coachdiff.domain.model.Region;
 import java.util.Optional;
 
 public interface FetchLeagueDataPort {
-  Optional<Rank> getLeagueDataByPuuid(String puuid);
+  Optional<Rank> getLeagueDataByPuuid(Region region, String puuid);
 }
@@ -1,10 +1,21 @@
 package com.coachdiff.domain.port.out;
 
 import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.Region;
 import java.util.List;
 
 public interface FetchMatchDetailsPort {
-  List<String> getMatchIdsByPuuid(String puuid);
+  List<String> getMatchIdsByPuuid(Region region, String puuid);
 
-  List<Match> getMatchRecords(String puuid, List<String> matchIds);
+  /** Match ids of games created at or after {@code gameCreation} (epoch millis), newest first. */
+  List<String> getMatchIdsByPuuidSince(Region region, String puuid, long gameCreation);
+
+  /** A page of the whole season's match ids, newest first, starting at index {@code start}. */
+  List<String> getSeasonMatchIdsPage(Region region, String puuid, int start, int count);
+
+  /**
+   * Match records of {@code puuid} for the given matches. When all-participant ingestion is on, the
+   * records of the other nine players of each match are returned too, so they can be stored.
+   */
+  List<Match> getMatchRecords(Region region, String puuid, List<String> matchIds);
 }
@@ -1,7 +1,11 @@
 package com.coachdiff.domain.port.out;
 
+import com.coachdiff.domain.model.Region;
 import java.util.Optional;
 
 public interface FetchRiotAccountPort {
-  Optional<String> getPuuid(String name, String tag);
+  Optional<String> getPuuid(Region region, String name, String tag);
+
+  /** Asks Riot again rather than answering from earlier lookups, which may be out of date. */
+  Optional<String> refreshPuuid(Region region, String name, String tag);
 }
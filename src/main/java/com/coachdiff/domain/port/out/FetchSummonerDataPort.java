@@ -1,8 +1,9 @@
 package com.coachdiff.domain.port.out;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Summoner;
 import java.util.Optional;
 
 public interface FetchSummonerDataPort {
-  Optional<Summoner> getSummonerDataByPuuid(String puuid);
+  Optional<Summoner> getSummonerDataByPuuid(Region region, String puuid);
 }
@@ -0,0 +1,9 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.Role;
+
+/** Aggregates stored match records where they are stored, without loading the records. */
+public interface LoadMatchAggregatePort {
+  MatchAggregate loadSeasonMatchAggregate(String puuid, Role role);
+}
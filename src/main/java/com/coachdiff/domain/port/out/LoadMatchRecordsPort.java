@@ -1,9 +1,16 @@
 package com.coachdiff.domain.port.out;
 
 import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.Role;
 import java.util.List;
 
 public interface LoadMatchRecordsPort {
 
   List<Match> loadExistingMatchRecords(String puuid, List<String> matchIds);
+
+  /** The player's latest {@code limit} matches played in {@code role}, newest first. */
+  List<Match> loadRecentMatchRecords(String puuid, Role role, int limit);
+
+  /** The player's latest {@code limit} matches in each role they played. */
+  List<Match> loadRecentMatchRecordsPerRole(String puuid, int limit);
 }
@@ -0,0 +1,10 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.MatchBackfill;
+import java.util.Optional;
+
+public interface MatchBackfillPort {
+  Optional<MatchBackfill> loadBackfill(String puuid);
+
+  void saveBackfill(MatchBackfill backfill);
+}
@@ -0,0 +1,10 @@
+package com.coachdiff.domain.port.out;
+
+import java.util.Optional;
+
+/** Tracks, per player, the creation time (epoch millis) of the newest game already ingested. */
+public interface MatchSyncPort {
+  Optional<Long> loadLatestGameCreation(String puuid);
+
+  void saveLatestGameCreation(String puuid, long gameCreation);
+}
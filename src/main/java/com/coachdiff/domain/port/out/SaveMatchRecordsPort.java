@@ -2,7 +2,14 @@ package com.coachdiff.domain.port.out;
 
 import com.coachdiff.domain.model.Match;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SaveMatchRecordsPort {
   void saveMatchRecords(List<Match> matches);
+
+  /**
+   * Saves matches as the stream yields them, for ingests too large to hold in memory. Returns how
+   * many were not stored yet.
+   */
+  long bulkSaveMatchRecords(Stream<Match> matches);
 }
@@ -1,11 +1,15 @@
 package com.coachdiff.infrastructure.adapter.in.rest;
 
+import com.coachdiff.domain.model.MatchScope;
 import com.coachdiff.domain.port.in.FetchMatchAggregatePort;
 import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchAggregationDto;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchTrendDto;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,8 +27,17 @@ public class MatchAggregationController {
 
   @GetMapping("/matches")
   public ResponseEntity<MatchAggregationDto> getMatchAggregation(
-      @RequestHeader("X-User-Email") String email) {
-    var aggregate = fetchMatchAggregatePort.fetchMatchAggregation(email);
+      @RequestHeader("X-User-Email") String email,
+      @RequestParam(defaultValue = "RECENT") MatchScope scope) {
+    var aggregate = fetchMatchAggregatePort.fetchMatchAggregation(email, scope);
     return ResponseEntity.ok(matchAggregationMapper.toDto(aggregate));
   }
+
+  @GetMapping("/matches/trend")
+  public ResponseEntity<MatchTrendDto> getMatchTrend(
+      @RequestHeader("X-User-Email") String email,
+      @RequestParam(defaultValue = "5,10,20,50") List<Integer> windows) {
+    var trend = fetchMatchAggregatePort.fetchMatchTrend(email, windows);
+    return ResponseEntity.ok(matchAggregationMapper.toDto(trend));
+  }
 }
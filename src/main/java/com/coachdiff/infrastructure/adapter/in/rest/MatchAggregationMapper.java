@@ -2,8 +2,17 @@ package com.coachdiff.infrastructure.adapter.in.rest;
 
 import com.coachdiff.domain.model.ChampionAggregate;
 import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchMetric;
+import com.coachdiff.domain.model.MatchTrend;
+import com.coachdiff.domain.model.MatchWindow;
+import com.coachdiff.domain.model.MetricPercentiles;
 import com.coachdiff.infrastructure.adapter.in.rest.dto.ChampionAggregationDto;
 import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchAggregationDto;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchTrendDto;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchWindowDto;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MetricPercentilesDto;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -15,4 +24,22 @@ public interface MatchAggregationMapper {
 
   @Mapping(target = "winRate", expression = "java(championAggregate.winRate())")
   ChampionAggregationDto toDto(ChampionAggregate championAggregate);
+
+  MetricPercentilesDto toDto(MetricPercentiles metricPercentiles);
+
+  /** No percentiles map to null rather than an empty object, so clients can't read them as 0. */
+  default Map<String, MetricPercentilesDto> toDto(Map<MatchMetric, MetricPercentiles> percentiles) {
+    if (percentiles == null || percentiles.isEmpty()) {
+      return null;
+    }
+    var dtos = new LinkedHashMap<String, MetricPercentilesDto>();
+    percentiles.forEach((metric, value) -> dtos.put(metric.name(), toDto(value)));
+    return dtos;
+  }
+
+  MatchTrendDto toDto(MatchTrend matchTrend);
+
+  MatchWindowDto toDto(MatchWindow matchWindow);
+
+  Map<String, Double> toMetricDto(Map<MatchMetric, Double> metrics);
 }
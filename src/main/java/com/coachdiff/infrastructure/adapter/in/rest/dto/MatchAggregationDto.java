@@ -1,6 +1,7 @@
 package com.coachdiff.infrastructure.adapter.in.rest.dto;
 
 import java.util.List;
+import java.util.Map;
 
 public record MatchAggregationDto(
     int gamesAnalyzed,
@@ -34,4 +35,6 @@ public record MatchAggregationDto(
     double avgWardsKilled,
     double avgControlWardsPlaced,
     double winRate,
-    List<ChampionAggregationDto> championsAggregate) {}
+    List<ChampionAggregationDto> championsAggregate,
+    // null when the scope keeps no per-game values to take percentiles of, as SEASON
+    Map<String, MetricPercentilesDto> percentiles) {}
@@ -0,0 +1,5 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+public record MatchTrendDto(int baselineWindow, List<MatchWindowDto> windows) {}
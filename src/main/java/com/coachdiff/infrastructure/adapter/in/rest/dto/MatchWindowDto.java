@@ -0,0 +1,12 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import java.util.Map;
+
+public record MatchWindowDto(
+    int window,
+    int gamesAnalyzed,
+    int wins,
+    double winRate,
+    Map<String, Double> averages,
+    double winRateDelta,
+    Map<String, Double> deltas) {}
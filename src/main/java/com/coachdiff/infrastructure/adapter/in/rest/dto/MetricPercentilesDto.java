@@ -0,0 +1,3 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+public record MetricPercentilesDto(double p25, double p50, double p75, double p90) {}
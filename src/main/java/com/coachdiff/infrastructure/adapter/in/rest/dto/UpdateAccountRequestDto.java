@@ -8,6 +8,6 @@ import java.util.Map;
 public record UpdateAccountRequestDto(String name, String tag, Role coachingRole, Region region) {
   public static Account toAccount(Long id, String email, UpdateAccountRequestDto dto) {
     return new Account(
-        id, email, dto.name(), dto.tag(), dto.coachingRole(), dto.region(), Map.of());
+        id, email, dto.name(), dto.tag(), null, dto.coachingRole(), dto.region(), Map.of());
   }
 }
@@ -0,0 +1,25 @@
+package com.coachdiff.infrastructure.adapter.in.scheduler;
+
+import com.coachdiff.domain.port.in.VerifyAccountPuuidsPort;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotPriority;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccountPuuidScheduler {
+  private final VerifyAccountPuuidsPort verifyAccountPuuidsPort;
+  private final PostgresJobLock jobLock;
+
+  AccountPuuidScheduler(VerifyAccountPuuidsPort verifyAccountPuuidsPort, PostgresJobLock jobLock) {
+    this.verifyAccountPuuidsPort = verifyAccountPuuidsPort;
+    this.jobLock = jobLock;
+  }
+
+  @Scheduled(cron = "${coach-diff.puuid-verification-cron}")
+  void verifyPuuids() {
+    // One pass over the accounts is enough; each instance running it would verify them all again
+    jobLock.runExclusively(
+        "account-puuid-verification",
+        () -> RiotPriority.REFRESH.run(verifyAccountPuuidsPort::verifyPuuids));
+  }
+}
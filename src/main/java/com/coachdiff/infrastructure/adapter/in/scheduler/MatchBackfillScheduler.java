@@ -0,0 +1,24 @@
+package com.coachdiff.infrastructure.adapter.in.scheduler;
+
+import com.coachdiff.domain.port.in.BackfillMatchesPort;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotPriority;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MatchBackfillScheduler {
+  private final BackfillMatchesPort backfillMatchesPort;
+  private final PostgresJobLock jobLock;
+
+  MatchBackfillScheduler(BackfillMatchesPort backfillMatchesPort, PostgresJobLock jobLock) {
+    this.backfillMatchesPort = backfillMatchesPort;
+    this.jobLock = jobLock;
+  }
+
+  @Scheduled(cron = "${coach-diff.backfill-cron}")
+  void backfillMatches() {
+    // Instances backfilling together would page the same players and split one Riot budget
+    jobLock.runExclusively(
+        "match-backfill", () -> RiotPriority.BACKFILL.run(backfillMatchesPort::backfillAccounts));
+  }
+}
@@ -0,0 +1,52 @@
+package com.coachdiff.infrastructure.adapter.in.scheduler;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a scheduled job on one instance at a time. Every instance fires the same cron, and the first
+ * to take the job's Postgres advisory lock runs it while the others skip that run. The lock belongs
+ * to the connection holding it, so it also goes away if the instance dies mid-run.
+ */
+@Component
+class PostgresJobLock {
+  private static final Logger log = LoggerFactory.getLogger(PostgresJobLock.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  PostgresJobLock(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Runs {@code job} unless another instance is running the job called {@code name}. */
+  void runExclusively(String name, Runnable job) {
+    // The connection stays checked out for the run, since only it can release the lock
+    jdbcTemplate.execute(
+        (Connection connection) -> {
+          if (!lock(connection, "pg_try_advisory_lock", name)) {
+            log.info("Skipping {}, another instance is running it", name);
+            return null;
+          }
+          try {
+            job.run();
+          } finally {
+            lock(connection, "pg_advisory_unlock", name);
+          }
+          return null;
+        });
+  }
+
+  private static boolean lock(Connection connection, String function, String name)
+      throws SQLException {
+    try (var statement = connection.prepareStatement("SELECT " + function + "(hashtext(?))")) {
+      statement.setString(1, name);
+      try (var rs = statement.executeQuery()) {
+        return rs.next() && rs.getBoolean(1);
+      }
+    }
+  }
+}
@@ -7,7 +7,7 @@ import java.util.List;
 public record RiotMatchDTO(Info info) {
 
   @JsonIgnoreProperties(ignoreUnknown = true)
-  public record Info(int gameDuration, List<Participant> participants) {}
+  public record Info(long gameCreation, int gameDuration, List<Participant> participants) {}
 
   @JsonIgnoreProperties(ignoreUnknown = true)
   public record Participant(
@@ -0,0 +1,11 @@
+package com.coachdiff.infrastructure.adapter.out.dto;
+
+/**
+ * The two timeline frames we use for one participant: minute 10 and minute 15. {@code at15} is null
+ * when the game ended before the 15th frame.
+ */
+public record RiotTimelineFramesDTO(ParticipantFrame at10, ParticipantFrame at15) {
+
+  public record ParticipantFrame(
+      int minionsKilled, int jungleMinionsKilled, int totalGold, int xp) {}
+}
@@ -0,0 +1,7 @@
+package com.coachdiff.infrastructure.adapter.out.exception;
+
+public class RiotNotFoundException extends RiotException {
+  public RiotNotFoundException(int status, String message) {
+    super(status, message);
+  }
+}
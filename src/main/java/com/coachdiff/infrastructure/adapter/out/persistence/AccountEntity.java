@@ -21,6 +21,7 @@ public class AccountEntity {
   private String email;
   private String name;
   private String tag;
+  private String puuid;
   private String role;
   private String region;
 
@@ -35,6 +36,7 @@ public class AccountEntity {
       String email,
       String name,
       String tag,
+      String puuid,
       String role,
       String region,
       Map<String, Boolean> permissions) {
@@ -42,6 +44,7 @@ public class AccountEntity {
     this.email = email;
     this.name = name;
     this.tag = tag;
+    this.puuid = puuid;
     this.role = role;
     this.region = region;
     this.permissions = permissions;
@@ -63,6 +66,10 @@ public class AccountEntity {
     return tag;
   }
 
+  public String getPuuid() {
+    return puuid;
+  }
+
   public String getRole() {
     return role;
   }
@@ -111,6 +118,7 @@ public class AccountEntity {
         entity.getEmail(),
         entity.getName(),
         entity.getTag(),
+        entity.getPuuid(),
         Role.valueOf(entity.getRole()),
         Region.valueOf(entity.getRegion()),
         permissions);
@@ -128,6 +136,7 @@ public class AccountEntity {
         account.email(),
         account.name(),
         account.tag(),
+        account.puuid(),
         account.role().name(),
         account.region().name(),
         permissions);
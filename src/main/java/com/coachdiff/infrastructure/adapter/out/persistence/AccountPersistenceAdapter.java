@@ -2,6 +2,7 @@ package com.coachdiff.infrastructure.adapter.out.persistence;
 
 import com.coachdiff.domain.model.Account;
 import com.coachdiff.domain.port.out.AccountPersistencePort;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +19,11 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
     return repository.findByEmail(email).map(AccountEntity::toDomain);
   }
 
+  @Override
+  public List<Account> loadAllAccounts() {
+    return repository.findAll().stream().map(AccountEntity::toDomain).toList();
+  }
+
   @Override
   public Account saveAccount(Account account) {
     return AccountEntity.toDomain(repository.save(AccountEntity.fromDomain(account)));
@@ -28,6 +34,11 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
     repository.save(AccountEntity.fromDomain(account));
   }
 
+  @Override
+  public boolean savePuuid(Account account, String puuid) {
+    return repository.updatePuuid(account.id(), account.name(), account.tag(), puuid) > 0;
+  }
+
   @Override
   public void deleteAccount(Long id) {
     repository.deleteById(id);
@@ -2,7 +2,18 @@ package com.coachdiff.infrastructure.adapter.out.persistence;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
   Optional<AccountEntity> findByEmail(String email);
+
+  // Leaves every other column alone, and the row too once its Riot ID has been edited
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE AccountEntity a SET a.puuid = :puuid"
+          + " WHERE a.id = :id AND a.name = :name AND a.tag = :tag")
+  int updatePuuid(Long id, String name, String tag, String puuid);
 }
@@ -0,0 +1,134 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.ChampionAggregate;
+import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchMetric;
+import com.coachdiff.domain.model.MetricPercentiles;
+import com.coachdiff.domain.model.MetricSketches;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.port.out.LoadMatchAggregatePort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the season aggregate from {@code match_aggregate_state}, which the match inserts keep up to
+ * date: one row for all champions and one per champion, each turned from sums into averages. The
+ * percentiles come from the sketches stored next to it.
+ */
+@Component
+public class MatchAggregatePersistenceAdapter implements LoadMatchAggregatePort {
+  private final JdbcClient jdbcClient;
+  private final MatchAggregateSketches sketches;
+
+  public MatchAggregatePersistenceAdapter(JdbcClient jdbcClient, MatchAggregateSketches sketches) {
+    this.jdbcClient = jdbcClient;
+    this.sketches = sketches;
+  }
+
+  @Override
+  public MatchAggregate loadSeasonMatchAggregate(String puuid, Role role) {
+    var rows =
+        jdbcClient
+            .sql(
+                """
+                SELECT * FROM match_aggregate_state
+                WHERE puuid = :puuid AND role = :role
+                ORDER BY champion_name
+                """)
+            .param("puuid", puuid)
+            .param("role", role.name())
+            .query(this::mapRow)
+            .list();
+
+    var overall = rows.stream().filter(row -> row.championName() == null).findFirst().orElse(null);
+    if (overall == null) {
+      return MatchAggregate.fromMatchRecordList(List.of());
+    }
+
+    var champions = rows.stream().filter(row -> row.championName() != null).toList();
+    var percentiles =
+        sketches.load(puuid, role).map(MetricSketches::percentiles).orElseGet(Map::of);
+    return toMatchAggregate(overall, champions, percentiles);
+  }
+
+  private ChampionAggregate mapRow(ResultSet rs, int rowNum) throws SQLException {
+    var championName = rs.getString("champion_name");
+    int games = rs.getInt("games");
+    int wins = rs.getInt("wins");
+    return new ChampionAggregate(
+        MatchAggregateState.ALL_CHAMPIONS.equals(championName) ? null : championName,
+        games,
+        wins,
+        games - wins,
+        // Combat
+        rs.getDouble("kills") / games,
+        rs.getDouble("deaths") / games,
+        rs.getDouble("assists") / games,
+        rs.getDouble("kda") / games,
+        rs.getDouble("solo_kills") / games,
+        rs.getDouble("damage_per_minute") / games,
+        rs.getDouble("damage_per_gold") / games,
+        rs.getDouble("team_damage_percentage") / games,
+        rs.getDouble("damage_taken_percentage") / games,
+        rs.getDouble("kill_participation") / games,
+        // Economy
+        rs.getDouble("gold_per_minute") / games,
+        rs.getDouble("cs_per_minute") / games,
+        rs.getDouble("cs_at10") / games,
+        rs.getDouble("gold_at10") / games,
+        rs.getDouble("gold_at15") / games,
+        rs.getDouble("xp_at15") / games,
+        // Objectives
+        rs.getDouble("damage_to_turrets") / games,
+        rs.getDouble("damage_to_objectives") / games,
+        rs.getDouble("turret_plates_taken") / games,
+        // Vision
+        rs.getDouble("vision_score_per_minute") / games,
+        rs.getDouble("wards_placed") / games,
+        rs.getDouble("wards_killed") / games,
+        rs.getDouble("control_wards_placed") / games);
+  }
+
+  private static MatchAggregate toMatchAggregate(
+      ChampionAggregate overall,
+      List<ChampionAggregate> champions,
+      Map<MatchMetric, MetricPercentiles> percentiles) {
+    return new MatchAggregate(
+        overall.gamesAnalyzed(),
+        overall.wins(),
+        overall.losses(),
+        // Combat
+        overall.avgKills(),
+        overall.avgDeaths(),
+        overall.avgAssists(),
+        overall.avgKda(),
+        overall.avgSoloKills(),
+        overall.avgDamagePerMinute(),
+        overall.avgDamagePerGold(),
+        overall.avgTeamDamagePercentage(),
+        overall.avgDamageTakenPercentage(),
+        overall.avgKillParticipation(),
+        // Economy
+        overall.avgGoldPerMinute(),
+        overall.avgCsPerMinute(),
+        overall.avgCsAt10(),
+        overall.avgGoldAt10(),
+        overall.avgGoldAt15(),
+        overall.avgXpAt15(),
+        // Objectives
+        overall.avgDamageToTurrets(),
+        overall.avgDamageToObjectives(),
+        overall.avgTurretPlatesTaken(),
+        // Vision
+        overall.avgVisionScorePerMinute(),
+        overall.avgWardsPlaced(),
+        overall.avgWardsKilled(),
+        overall.avgControlWardsPlaced(),
+        champions,
+        percentiles);
+  }
+}
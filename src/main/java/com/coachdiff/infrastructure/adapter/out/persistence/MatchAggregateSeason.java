@@ -0,0 +1,77 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@code match_aggregate_state} and its sketches on the configured season. The state only
+ * holds sums, so when {@code coach-diff.season-start-epoch} changes it is rebuilt from {@code
+ * match_data} on startup, before any season aggregate is read. The migration creates the state
+ * empty, so the first startup fills it the same way.
+ */
+@Component
+public class MatchAggregateSeason implements InitializingBean {
+  private static final Logger log = LoggerFactory.getLogger(MatchAggregateSeason.class);
+
+  private final JdbcClient jdbcClient;
+  private final MatchAggregateSketches sketches;
+  private final TransactionTemplate transactionTemplate;
+  private final long seasonStartEpoch;
+
+  public MatchAggregateSeason(
+      JdbcClient jdbcClient,
+      MatchAggregateSketches sketches,
+      PlatformTransactionManager transactionManager,
+      @Value("${coach-diff.season-start-epoch}") long seasonStartEpoch) {
+    this.jdbcClient = jdbcClient;
+    this.sketches = sketches;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.seasonStartEpoch = seasonStartEpoch;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    startSeason(seasonStartEpoch);
+  }
+
+  /** Rebuilds the state for the season starting at {@code seasonStart}, unless it already is. */
+  void startSeason(long seasonStart) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          // Instances starting together wait here, and find the season already moved on
+          long current =
+              jdbcClient
+                  .sql("SELECT season_start FROM match_aggregate_season FOR UPDATE")
+                  .query(Long.class)
+                  .single();
+          if (current == seasonStart) {
+            return;
+          }
+
+          // Match inserts wait for the rebuild, then add their games on top of it
+          jdbcClient.sql("LOCK TABLE match_aggregate_state IN EXCLUSIVE MODE").update();
+          jdbcClient.sql("DELETE FROM match_aggregate_state").update();
+          jdbcClient.sql("DELETE FROM match_aggregate_sketch").update();
+          jdbcClient
+              .sql(MatchAggregateState.rebuilding())
+              // game_creation is in epoch millis, the season start in epoch seconds
+              .param("since", seasonStart * 1000)
+              .update();
+          sketches.rebuild(seasonStart * 1000);
+          jdbcClient
+              .sql("UPDATE match_aggregate_season SET season_start = :seasonStart")
+              .param("seasonStart", seasonStart)
+              .update();
+          log.info(
+              "Rebuilt the season match aggregates from {} for season start {}",
+              current,
+              seasonStart);
+        });
+  }
+}
@@ -0,0 +1,118 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.MetricSketches;
+import com.coachdiff.domain.model.Role;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SimplePropertyRowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code match_aggregate_sketch} table: each player's {@link MetricSketches} per role, over the
+ * same season games {@code match_aggregate_state} sums up. Postgres can't merge them itself, so new
+ * games are sketched here and merged into the stored bytes.
+ */
+@Component
+public class MatchAggregateSketches {
+  // Rows read at a time when rebuilding, instead of the whole season at once
+  private static final int REBUILD_FETCH_SIZE = 1000;
+
+  private final JdbcClient jdbcClient;
+  private final JdbcTemplate rebuildTemplate;
+
+  public MatchAggregateSketches(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+    this.jdbcClient = jdbcClient;
+    this.rebuildTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.rebuildTemplate.setFetchSize(REBUILD_FETCH_SIZE);
+  }
+
+  Optional<MetricSketches> load(String puuid, Role role) {
+    return jdbcClient
+        .sql("SELECT sketches FROM match_aggregate_sketch WHERE puuid = :puuid AND role = :role")
+        .param("puuid", puuid)
+        .param("role", role.name())
+        .query(byte[].class)
+        .optional()
+        .map(MetricSketches::fromBytes);
+  }
+
+  /**
+   * Merges the season games among {@code inserted} into the stored sketches. Must run in the
+   * transaction that added them to the aggregate state: the state rows it updated stay locked until
+   * commit, so concurrent inserts for the same player and role merge one after the other.
+   */
+  void accumulate(List<Match> inserted) {
+    if (inserted.isEmpty()) {
+      return;
+    }
+
+    long seasonStart =
+        jdbcClient
+            .sql("SELECT season_start * 1000 FROM match_aggregate_season")
+            .query(Long.class)
+            .single();
+    var added = new HashMap<Key, MetricSketches>();
+    for (var match : inserted) {
+      if (match.gameCreation() == null || match.gameCreation() >= seasonStart) {
+        added.computeIfAbsent(Key.of(match), key -> new MetricSketches()).add(match);
+      }
+    }
+
+    added.forEach(
+        (key, sketches) -> {
+          load(key.puuid(), key.role()).ifPresent(sketches::merge);
+          save(key, sketches);
+        });
+  }
+
+  /**
+   * Sketches every stored match since {@code since}, the season start in epoch millis, into the
+   * empty table. Matches are read one player and role after the other, so only one set of sketches
+   * is held at a time.
+   */
+  void rebuild(long since) {
+    var rowMapper = new SimplePropertyRowMapper<>(Match.class);
+    var current = new HashMap<Key, MetricSketches>(1);
+    rebuildTemplate.query(
+        """
+        SELECT * FROM match_data
+        WHERE game_creation IS NULL OR game_creation >= ?
+        ORDER BY puuid, role
+        """,
+        rs -> {
+          var match = rowMapper.mapRow(rs, rs.getRow());
+          var key = Key.of(match);
+          if (!current.containsKey(key)) {
+            current.forEach(this::save);
+            current.clear();
+          }
+          current.computeIfAbsent(key, k -> new MetricSketches()).add(match);
+        },
+        since);
+    current.forEach(this::save);
+  }
+
+  private void save(Key key, MetricSketches sketches) {
+    jdbcClient
+        .sql(
+            """
+            INSERT INTO match_aggregate_sketch (puuid, role, sketches)
+            VALUES (:puuid, :role, :sketches)
+            ON CONFLICT (puuid, role) DO UPDATE SET sketches = EXCLUDED.sketches
+            """)
+        .param("puuid", key.puuid())
+        .param("role", key.role().name())
+        .param("sketches", sketches.toBytes())
+        .update();
+  }
+
+  private record Key(String puuid, Role role) {
+    static Key of(Match match) {
+      return new Key(match.puuid(), match.role());
+    }
+  }
+}
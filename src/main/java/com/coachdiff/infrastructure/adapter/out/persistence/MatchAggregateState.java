@@ -0,0 +1,104 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL for the {@code match_aggregate_state} table, which keeps running sums of each player's season
+ * matches so the aggregate can be read without touching {@code match_data}.
+ */
+final class MatchAggregateState {
+  /** The {@code champion_name} of the row summing all champions. */
+  static final String ALL_CHAMPIONS = "*";
+
+  /** Summed columns, in the order of the averages in {@code ChampionAggregate}. */
+  static final List<String> STATS =
+      List.of(
+          "kills",
+          "deaths",
+          "assists",
+          "kda",
+          "solo_kills",
+          "damage_per_minute",
+          "damage_per_gold",
+          "team_damage_percentage",
+          "damage_taken_percentage",
+          "kill_participation",
+          "gold_per_minute",
+          "cs_per_minute",
+          "cs_at10",
+          "gold_at10",
+          "gold_at15",
+          "xp_at15",
+          "damage_to_turrets",
+          "damage_to_objectives",
+          "turret_plates_taken",
+          "vision_score_per_minute",
+          "wards_placed",
+          "wards_killed",
+          "control_wards_placed");
+
+  // Only the timeline stats are nullable; a game without them counts as 0, as when averaging
+  private static final List<String> NULLABLE_STATS =
+      List.of("cs_at10", "gold_at10", "gold_at15", "xp_at15");
+
+  // The season the state sums up, kept next to it so writers and a rebuild always agree on it
+  private static final String SEASON_START_MILLIS =
+      "(SELECT season_start * 1000 FROM match_aggregate_season)";
+
+  private MatchAggregateState() {}
+
+  /**
+   * Wraps an {@code INSERT INTO match_data ... RETURNING *} so the rows it actually inserts are
+   * added to the aggregate state in the same statement. Rows from before the season the state was
+   * built for are left out. The statement returns the inserted rows, for {@link
+   * MatchAggregateSketches#accumulate} to sketch.
+   */
+  static String accumulating(String insertReturning) {
+    var updates =
+        STATS.stream()
+            .map(stat -> stat + " = s." + stat + " + EXCLUDED." + stat)
+            .collect(Collectors.joining(", "));
+
+    return """
+    WITH inserted AS (%s),
+    accumulated AS (
+        %s
+        ON CONFLICT (puuid, role, champion_name) DO UPDATE
+        SET games = s.games + EXCLUDED.games, wins = s.wins + EXCLUDED.wins, %s
+    )
+    SELECT * FROM inserted
+    """
+        .formatted(insertReturning, summing("inserted", SEASON_START_MILLIS), updates);
+  }
+
+  /**
+   * Sums every stored match since {@code :since}, the season start in epoch millis, into the empty
+   * aggregate state.
+   */
+  static String rebuilding() {
+    return summing("match_data", ":since");
+  }
+
+  private static String summing(String source, String since) {
+    var columns = String.join(", ", STATS);
+    var sums =
+        STATS.stream()
+            .map(
+                stat ->
+                    NULLABLE_STATS.contains(stat)
+                        ? "SUM(COALESCE(" + stat + ", 0))"
+                        : "SUM(" + stat + ")")
+            .collect(Collectors.joining(", "));
+
+    return """
+    INSERT INTO match_aggregate_state AS s (puuid, role, champion_name, games, wins, %s)
+    SELECT puuid, role, COALESCE(champion_name, '%s'), COUNT(*),
+           COUNT(*) FILTER (WHERE win), %s
+    FROM %s
+    WHERE game_creation IS NULL OR game_creation >= %s
+    GROUP BY GROUPING SETS ((puuid, role), (puuid, role, champion_name))
+    """
+        .formatted(columns, ALL_CHAMPIONS, sums, source, since);
+  }
+}
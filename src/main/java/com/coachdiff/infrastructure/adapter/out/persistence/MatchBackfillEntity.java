@@ -0,0 +1,43 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.MatchBackfill;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Objects;
+
+@Entity
+@Table(name = "match_backfill")
+public class MatchBackfillEntity {
+  @Id private String puuid;
+  private int nextStart;
+  private boolean completed;
+
+  protected MatchBackfillEntity() {}
+
+  public MatchBackfillEntity(String puuid, int nextStart, boolean completed) {
+    this.puuid = puuid;
+    this.nextStart = nextStart;
+    this.completed = completed;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof MatchBackfillEntity other)) return false;
+    return Objects.equals(puuid, other.puuid);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(puuid);
+  }
+
+  public static MatchBackfillEntity from(MatchBackfill backfill) {
+    return new MatchBackfillEntity(backfill.puuid(), backfill.nextStart(), backfill.completed());
+  }
+
+  public static MatchBackfill toDomain(MatchBackfillEntity entity) {
+    return new MatchBackfill(entity.puuid, entity.nextStart, entity.completed);
+  }
+}
@@ -0,0 +1,25 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.MatchBackfill;
+import com.coachdiff.domain.port.out.MatchBackfillPort;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MatchBackfillPersistenceAdapter implements MatchBackfillPort {
+  private final MatchBackfillRepository repository;
+
+  public MatchBackfillPersistenceAdapter(MatchBackfillRepository repository) {
+    this.repository = repository;
+  }
+
+  @Override
+  public Optional<MatchBackfill> loadBackfill(String puuid) {
+    return repository.findById(puuid).map(MatchBackfillEntity::toDomain);
+  }
+
+  @Override
+  public void saveBackfill(MatchBackfill backfill) {
+    repository.save(MatchBackfillEntity.from(backfill));
+  }
+}
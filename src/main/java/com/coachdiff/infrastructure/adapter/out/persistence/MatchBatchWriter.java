@@ -0,0 +1,129 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.Match;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inserts match records in one statement, passing each column as an array that Postgres unnests
+ * into rows. Rows already stored, e.g. by a concurrent fetch of the same match, are skipped instead
+ * of failing the batch, and no entity is loaded or merged first. The same statement adds the new
+ * rows to the season aggregate state, and the same transaction merges them into its sketches.
+ */
+@Component
+public class MatchBatchWriter {
+  private final JdbcClient jdbcClient;
+  private final MatchAggregateSketches sketches;
+  private final TransactionTemplate transactionTemplate;
+
+  public MatchBatchWriter(
+      JdbcClient jdbcClient,
+      MatchAggregateSketches sketches,
+      PlatformTransactionManager transactionManager) {
+    this.jdbcClient = jdbcClient;
+    this.sketches = sketches;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /** Returns how many of the matches were new. */
+  public int insertMissing(List<Match> matches) {
+    if (matches.isEmpty()) {
+      return 0;
+    }
+
+    var inserted = transactionTemplate.execute(status -> insertAndSketch(matches));
+    return inserted == null ? 0 : inserted;
+  }
+
+  private int insertAndSketch(List<Match> matches) {
+    var inserted =
+        jdbcClient
+            .sql(
+                MatchAggregateState.accumulating(
+                    """
+                    INSERT INTO match_data (
+                        match_id, puuid, win, game_duration_minutes, game_creation, champion_name, role,
+                        kills, deaths, assists, kda, solo_kills, damage_per_minute, damage_per_gold,
+                        team_damage_percentage, damage_taken_percentage, kill_participation,
+                        gold_per_minute, cs_per_minute,
+                        damage_to_turrets, damage_to_objectives, turret_plates_taken,
+                        vision_score_per_minute, wards_placed, wards_killed, control_wards_placed,
+                        cs_at10, gold_at10, gold_at15, xp_at15)
+                    SELECT * FROM UNNEST(
+                        CAST(:matchIds AS varchar[]), CAST(:puuids AS varchar[]),
+                        CAST(:wins AS boolean[]), CAST(:gameDurationMinutes AS float8[]),
+                        CAST(:gameCreations AS bigint[]), CAST(:championNames AS varchar[]),
+                        CAST(:roles AS varchar[]),
+                        CAST(:kills AS int[]), CAST(:deaths AS int[]), CAST(:assists AS int[]),
+                        CAST(:kdas AS float8[]), CAST(:soloKills AS int[]),
+                        CAST(:damagePerMinute AS float8[]), CAST(:damagePerGold AS float8[]),
+                        CAST(:teamDamagePercentages AS float8[]),
+                        CAST(:damageTakenPercentages AS float8[]),
+                        CAST(:killParticipations AS float8[]),
+                        CAST(:goldPerMinute AS float8[]), CAST(:csPerMinute AS float8[]),
+                        CAST(:damageToTurrets AS int[]), CAST(:damageToObjectives AS int[]),
+                        CAST(:turretPlatesTaken AS int[]),
+                        CAST(:visionScorePerMinute AS float8[]), CAST(:wardsPlaced AS int[]),
+                        CAST(:wardsKilled AS int[]), CAST(:controlWardsPlaced AS int[]),
+                        CAST(:csAt10 AS float8[]), CAST(:goldAt10 AS float8[]),
+                        CAST(:goldAt15 AS float8[]), CAST(:xpAt15 AS float8[]))
+                    ON CONFLICT (match_id, puuid) DO NOTHING
+                    RETURNING *
+                    """))
+            .param("matchIds", column(matches, Match::matchId, String[]::new))
+            .param("puuids", column(matches, Match::puuid, String[]::new))
+            .param("wins", column(matches, Match::win, Boolean[]::new))
+            .param("gameDurationMinutes", doubles(matches, Match::gameDurationMinutes))
+            .param("gameCreations", column(matches, Match::gameCreation, Long[]::new))
+            .param("championNames", column(matches, Match::championName, String[]::new))
+            .param("roles", column(matches, match -> match.role().name(), String[]::new))
+            .param("kills", ints(matches, Match::kills))
+            .param("deaths", ints(matches, Match::deaths))
+            .param("assists", ints(matches, Match::assists))
+            .param("kdas", doubles(matches, Match::kda))
+            .param("soloKills", ints(matches, Match::soloKills))
+            .param("damagePerMinute", doubles(matches, Match::damagePerMinute))
+            .param("damagePerGold", doubles(matches, Match::damagePerGold))
+            .param("teamDamagePercentages", doubles(matches, Match::teamDamagePercentage))
+            .param("damageTakenPercentages", doubles(matches, Match::damageTakenPercentage))
+            .param("killParticipations", doubles(matches, Match::killParticipation))
+            .param("goldPerMinute", doubles(matches, Match::goldPerMinute))
+            .param("csPerMinute", doubles(matches, Match::csPerMinute))
+            .param("damageToTurrets", ints(matches, Match::damageToTurrets))
+            .param("damageToObjectives", ints(matches, Match::damageToObjectives))
+            .param("turretPlatesTaken", ints(matches, Match::turretPlatesTaken))
+            .param("visionScorePerMinute", doubles(matches, Match::visionScorePerMinute))
+            .param("wardsPlaced", ints(matches, Match::wardsPlaced))
+            .param("wardsKilled", ints(matches, Match::wardsKilled))
+            .param("controlWardsPlaced", ints(matches, Match::controlWardsPlaced))
+            // Timeline stats are null for games that ended before the frame
+            .param("csAt10", column(matches, Match::csAt10, Double[]::new))
+            .param("goldAt10", column(matches, Match::goldAt10, Double[]::new))
+            .param("goldAt15", column(matches, Match::goldAt15, Double[]::new))
+            .param("xpAt15", column(matches, Match::xpAt15, Double[]::new))
+            .query(Match.class)
+            .list();
+    sketches.accumulate(inserted);
+    return inserted.size();
+  }
+
+  private static <T> T[] column(
+      List<Match> matches, Function<Match, T> value, IntFunction<T[]> array) {
+    return matches.stream().map(value).toArray(array);
+  }
+
+  private static int[] ints(List<Match> matches, ToIntFunction<Match> value) {
+    return matches.stream().mapToInt(value).toArray();
+  }
+
+  private static double[] doubles(List<Match> matches, ToDoubleFunction<Match> value) {
+    return matches.stream().mapToDouble(value).toArray();
+  }
+}
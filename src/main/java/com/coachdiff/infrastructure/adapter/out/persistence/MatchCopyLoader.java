@@ -0,0 +1,184 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.Match;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads large numbers of match records with {@code COPY ... FROM STDIN (FORMAT binary)}. Rows are
+ * encoded as the stream is consumed and copied into a temporary staging table, which is then merged
+ * into {@code match_data}, skipping rows that are already stored and adding the new ones to the
+ * season aggregate state and its sketches. Memory stays at one copy buffer however many matches the
+ * stream yields, plus the rows that turn out to be new.
+ */
+@Component
+public class MatchCopyLoader {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final byte[] SIGNATURE =
+      "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+  private static final int COLUMNS = 30;
+  private static final String COLUMN_LIST =
+      """
+      match_id, puuid, win, game_duration_minutes, game_creation, champion_name, role,
+      kills, deaths, assists, kda, solo_kills, damage_per_minute, damage_per_gold,
+      team_damage_percentage, damage_taken_percentage, kill_participation,
+      gold_per_minute, cs_per_minute, damage_to_turrets, damage_to_objectives,
+      turret_plates_taken, vision_score_per_minute, wards_placed, wards_killed,
+      control_wards_placed, cs_at10, gold_at10, gold_at15, xp_at15
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcClient jdbcClient;
+  private final TransactionTemplate transactionTemplate;
+  private final MatchAggregateSketches sketches;
+
+  public MatchCopyLoader(
+      JdbcTemplate jdbcTemplate,
+      JdbcClient jdbcClient,
+      TransactionTemplate transactionTemplate,
+      MatchAggregateSketches sketches) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.jdbcClient = jdbcClient;
+    this.transactionTemplate = transactionTemplate;
+    this.sketches = sketches;
+  }
+
+  /** Returns how many of the streamed matches were new. */
+  public long load(Stream<Match> matches) {
+    // The staging table only lives as long as the transaction, so all steps share its connection
+    Long inserted = transactionTemplate.execute(status -> loadInTransaction(matches));
+    return inserted == null ? 0 : inserted;
+  }
+
+  private long loadInTransaction(Stream<Match> matches) {
+    jdbcTemplate.execute(
+        "CREATE TEMPORARY TABLE match_data_staging (LIKE match_data) ON COMMIT DROP");
+    jdbcTemplate.execute(
+        (Connection connection) -> {
+          copy(connection.unwrap(PGConnection.class), matches);
+          return null;
+        });
+
+    var inserted =
+        jdbcClient
+            .sql(
+                MatchAggregateState.accumulating(
+                    "INSERT INTO match_data ("
+                        + COLUMN_LIST
+                        + ") SELECT "
+                        + COLUMN_LIST
+                        + " FROM match_data_staging"
+                        + " ON CONFLICT (match_id, puuid) DO NOTHING RETURNING *"))
+            .query(Match.class)
+            .list();
+    sketches.accumulate(inserted);
+    // Dropped right away too, in case the load joined a longer transaction
+    jdbcTemplate.execute("DROP TABLE match_data_staging");
+    return inserted.size();
+  }
+
+  private void copy(PGConnection connection, Stream<Match> matches) {
+    var sql = "COPY match_data_staging (" + COLUMN_LIST + ") FROM STDIN (FORMAT binary)";
+    try (var out = new DataOutputStream(new PGCopyOutputStream(connection, sql, BUFFER_SIZE))) {
+      out.write(SIGNATURE);
+      out.writeInt(0); // flags
+      out.writeInt(0); // header extension length
+      var rows = matches.iterator();
+      while (rows.hasNext()) {
+        writeRow(out, rows.next());
+      }
+      out.writeShort(-1);
+    } catch (SQLException | IOException e) {
+      throw new DataAccessResourceFailureException("Could not copy match records to Postgres", e);
+    }
+  }
+
+  private static void writeRow(DataOutputStream out, Match match) throws IOException {
+    out.writeShort(COLUMNS);
+    writeText(out, match.matchId());
+    writeText(out, match.puuid());
+    writeBoolean(out, match.win());
+    writeDouble(out, match.gameDurationMinutes());
+    writeLong(out, match.gameCreation());
+    writeText(out, match.championName());
+    writeText(out, match.role().name());
+    writeInt(out, match.kills());
+    writeInt(out, match.deaths());
+    writeInt(out, match.assists());
+    writeDouble(out, match.kda());
+    writeInt(out, match.soloKills());
+    writeDouble(out, match.damagePerMinute());
+    writeDouble(out, match.damagePerGold());
+    writeDouble(out, match.teamDamagePercentage());
+    writeDouble(out, match.damageTakenPercentage());
+    writeDouble(out, match.killParticipation());
+    writeDouble(out, match.goldPerMinute());
+    writeDouble(out, match.csPerMinute());
+    writeInt(out, match.damageToTurrets());
+    writeInt(out, match.damageToObjectives());
+    writeInt(out, match.turretPlatesTaken());
+    writeDouble(out, match.visionScorePerMinute());
+    writeInt(out, match.wardsPlaced());
+    writeInt(out, match.wardsKilled());
+    writeInt(out, match.controlWardsPlaced());
+    writeDouble(out, match.csAt10());
+    writeDouble(out, match.goldAt10());
+    writeDouble(out, match.goldAt15());
+    writeDouble(out, match.xpAt15());
+  }
+
+  // Each field is its length in bytes, or -1 for NULL, followed by the value in network order
+
+  private static void writeText(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeBoolean(DataOutputStream out, boolean value) throws IOException {
+    out.writeInt(1);
+    out.writeBoolean(value);
+  }
+
+  private static void writeInt(DataOutputStream out, int value) throws IOException {
+    out.writeInt(4);
+    out.writeInt(value);
+  }
+
+  private static void writeLong(DataOutputStream out, Long value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(8);
+    out.writeLong(value);
+  }
+
+  private static void writeDouble(DataOutputStream out, double value) throws IOException {
+    out.writeInt(8);
+    out.writeDouble(value);
+  }
+
+  private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    writeDouble(out, value.doubleValue());
+  }
+}
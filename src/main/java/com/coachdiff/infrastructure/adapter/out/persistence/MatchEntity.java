@@ -21,6 +21,7 @@ public class MatchEntity {
   // Game info
   private boolean win;
   private double gameDurationMinutes;
+  private Long gameCreation;
   private String championName;
   private String role;
 
@@ -64,6 +65,7 @@ public class MatchEntity {
       String puuid,
       boolean win,
       double gameDurationMinutes,
+      Long gameCreation,
       String championName,
       String role,
       int kills,
@@ -93,6 +95,7 @@ public class MatchEntity {
     this.puuid = puuid;
     this.win = win;
     this.gameDurationMinutes = gameDurationMinutes;
+    this.gameCreation = gameCreation;
     this.championName = championName;
     this.role = role;
     this.kills = kills;
@@ -166,6 +169,7 @@ public class MatchEntity {
         record.puuid(),
         record.win(),
         record.gameDurationMinutes(),
+        record.gameCreation(),
         record.championName(),
         record.role().name(),
         record.kills(),
@@ -199,6 +203,7 @@ public class MatchEntity {
         entity.puuid,
         entity.win,
         entity.gameDurationMinutes,
+        entity.gameCreation,
         entity.championName,
         Role.valueOf(entity.role),
         entity.kills,
@@ -1,27 +1,53 @@
 package com.coachdiff.infrastructure.adapter.out.persistence;
 
 import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.Role;
 import com.coachdiff.domain.port.out.LoadMatchRecordsPort;
+import com.coachdiff.domain.port.out.MatchSyncPort;
 import com.coachdiff.domain.port.out.SaveMatchRecordsPort;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 @Component
-public class MatchPersistenceAdapter implements SaveMatchRecordsPort, LoadMatchRecordsPort {
+public class MatchPersistenceAdapter
+    implements SaveMatchRecordsPort, LoadMatchRecordsPort, MatchSyncPort {
   private static final Logger log = LoggerFactory.getLogger(MatchPersistenceAdapter.class);
+  private static final String[] ROLES =
+      Arrays.stream(Role.values()).map(Role::name).toArray(String[]::new);
+
   private final MatchRepository repository;
+  private final MatchSyncRepository syncRepository;
+  private final MatchBatchWriter batchWriter;
+  private final MatchCopyLoader copyLoader;
 
-  public MatchPersistenceAdapter(MatchRepository repository) {
+  public MatchPersistenceAdapter(
+      MatchRepository repository,
+      MatchSyncRepository syncRepository,
+      MatchBatchWriter batchWriter,
+      MatchCopyLoader copyLoader) {
     this.repository = repository;
+    this.syncRepository = syncRepository;
+    this.batchWriter = batchWriter;
+    this.copyLoader = copyLoader;
   }
 
   @Override
   public void saveMatchRecords(List<Match> matches) {
-    var matchEntities = matches.stream().map(MatchEntity::from).toList();
-    repository.saveAll(matchEntities);
-    log.debug("Persisted {} match records", matchEntities.size());
+    int inserted = batchWriter.insertMissing(matches);
+    log.debug("Persisted {} of {} match records", inserted, matches.size());
+  }
+
+  @Override
+  public long bulkSaveMatchRecords(Stream<Match> matches) {
+    long inserted = copyLoader.load(matches);
+    log.debug("Bulk loaded {} new match records", inserted);
+    return inserted;
   }
 
   @Override
@@ -30,4 +56,28 @@ public class MatchPersistenceAdapter implements SaveMatchRecordsPort, LoadMatchR
     log.debug("Loaded {} existing match records from DB for puuid={}", matchEntities.size(), puuid);
     return matchEntities.stream().map(MatchEntity::toDomain).toList();
   }
+
+  @Override
+  public List<Match> loadRecentMatchRecords(String puuid, Role role, int limit) {
+    return repository.findRecentByPuuidAndRole(puuid, role.name(), Limit.of(limit)).stream()
+        .map(MatchEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<Match> loadRecentMatchRecordsPerRole(String puuid, int limit) {
+    return repository.findRecentByPuuidPerRole(puuid, ROLES, limit).stream()
+        .map(MatchEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public Optional<Long> loadLatestGameCreation(String puuid) {
+    return syncRepository.findById(puuid).map(MatchSyncEntity::getLatestGameCreation);
+  }
+
+  @Override
+  public void saveLatestGameCreation(String puuid, long gameCreation) {
+    syncRepository.save(new MatchSyncEntity(puuid, gameCreation));
+  }
 }
@@ -1,8 +1,27 @@
 package com.coachdiff.infrastructure.adapter.out.persistence;
 
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MatchRepository extends JpaRepository<MatchEntity, MatchId> {
   List<MatchEntity> findByPuuidAndMatchIdIn(String puuid, List<String> matchIds);
+
+  // Rows stored before game_creation existed have no creation time and go last
+  @Query(
+      "SELECT m FROM MatchEntity m WHERE m.puuid = :puuid AND m.role = :role"
+          + " ORDER BY m.gameCreation DESC NULLS LAST")
+  List<MatchEntity> findRecentByPuuidAndRole(String puuid, String role, Limit limit);
+
+  // The latest games of each of the roles at once, each role a LIMIT read off the (puuid, role)
+  // index
+  @Query(
+      value =
+          "SELECT m.* FROM unnest(CAST(:roles AS varchar[])) AS r (role)"
+              + " CROSS JOIN LATERAL (SELECT * FROM match_data"
+              + " WHERE puuid = :puuid AND role = r.role"
+              + " ORDER BY game_creation DESC NULLS LAST LIMIT :limit) m",
+      nativeQuery = true)
+  List<MatchEntity> findRecentByPuuidPerRole(String puuid, String[] roles, int limit);
 }
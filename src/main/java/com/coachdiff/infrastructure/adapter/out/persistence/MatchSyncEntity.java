@@ -0,0 +1,40 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Objects;
+
+@Entity
+@Table(name = "match_sync")
+public class MatchSyncEntity {
+  @Id private String puuid;
+  private long latestGameCreation;
+
+  protected MatchSyncEntity() {}
+
+  public MatchSyncEntity(String puuid, long latestGameCreation) {
+    this.puuid = puuid;
+    this.latestGameCreation = latestGameCreation;
+  }
+
+  public String getPuuid() {
+    return puuid;
+  }
+
+  public long getLatestGameCreation() {
+    return latestGameCreation;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof MatchSyncEntity other)) return false;
+    return Objects.equals(puuid, other.puuid);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(puuid);
+  }
+}
@@ -0,0 +1,5 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MatchSyncRepository extends JpaRepository<MatchSyncEntity, String> {}
@@ -1,5 +1,6 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.port.out.FetchRiotAccountPort;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -13,7 +14,12 @@ public class RiotAccountAdapter implements FetchRiotAccountPort {
   }
 
   @Override
-  public Optional<String> getPuuid(String name, String tag) {
-    return riotAccountClient.getRiotAccountPuuid(name, tag);
+  public Optional<String> getPuuid(Region region, String name, String tag) {
+    return riotAccountClient.getRiotAccountPuuid(region, name, tag);
+  }
+
+  @Override
+  public Optional<String> refreshPuuid(Region region, String name, String tag) {
+    return riotAccountClient.refreshRiotAccountPuuid(region, name, tag);
   }
 }
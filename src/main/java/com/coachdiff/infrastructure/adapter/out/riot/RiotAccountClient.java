@@ -1,45 +1,57 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.infrastructure.adapter.out.dto.RiotAccountDTO;
-import com.coachdiff.infrastructure.config.RiotProperties;
-import io.github.resilience4j.ratelimiter.RateLimiter;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotMethod;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 
 @Component
 public class RiotAccountClient {
   private static final Logger log = LoggerFactory.getLogger(RiotAccountClient.class);
-  private final RestClient riotAccountsRestClient;
-  private final RateLimiter rateLimiter;
-
-  RiotAccountClient(
-      RestClient.Builder restClientBuilder,
-      RiotProperties riotProperties,
-      RateLimiter rateLimiter) {
-    this.riotAccountsRestClient =
-        restClientBuilder.clone().baseUrl(riotProperties.api().baseUrlAccounts()).build();
-    this.rateLimiter = rateLimiter;
+  private final RiotRoutes riotRoutes;
+  private final SingleFlight<RiotIdKey, Optional<String>> accountFlights;
+
+  RiotAccountClient(RiotRoutes riotRoutes, MeterRegistry meterRegistry) {
+    this.riotRoutes = riotRoutes;
+    this.accountFlights = new SingleFlight<>("account", meterRegistry);
   }
 
+  // account-v1 answers on every regional cluster; the player's own one keeps the load spread
   @Cacheable("account-details")
-  public Optional<String> getRiotAccountPuuid(String name, String tag) {
+  public Optional<String> getRiotAccountPuuid(Region region, String name, String tag) {
+    // Cache misses for the same Riot ID at the same time still end up as a single call
+    return accountFlights.execute(
+        new RiotIdKey(region, name, tag), () -> fetchRiotAccountPuuid(region, name, tag));
+  }
+
+  /** Always calls Riot, and replaces the cached answer with the new one. */
+  @CachePut("account-details")
+  public Optional<String> refreshRiotAccountPuuid(Region region, String name, String tag) {
+    return accountFlights.execute(
+        new RiotIdKey(region, name, tag), () -> fetchRiotAccountPuuid(region, name, tag));
+  }
+
+  private Optional<String> fetchRiotAccountPuuid(Region region, String name, String tag) {
     log.debug("Fetching PUUID for {}#{}", name, tag);
     var riotAccount =
-        rateLimiter.executeSupplier(
-            () ->
-                riotAccountsRestClient
-                    .get()
-                    .uri("/riot/account/v1/accounts/by-riot-id/{name}/{tag}", name, tag)
-                    .retrieve()
-                    .onStatus(
-                        HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
-                    .body(RiotAccountDTO.class));
+        riotRoutes
+            .regional(region)
+            .get()
+            .uri("/riot/account/v1/accounts/by-riot-id/{name}/{tag}", name, tag)
+            .attribute(RiotMethod.ATTRIBUTE, RiotMethod.ACCOUNT_BY_RIOT_ID)
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
+            .body(RiotAccountDTO.class);
 
     return Optional.ofNullable(riotAccount).map(RiotAccountDTO::puuid);
   }
+
+  private record RiotIdKey(Region region, String name, String tag) {}
 }
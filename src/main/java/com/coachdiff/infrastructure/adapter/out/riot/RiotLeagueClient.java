@@ -1,7 +1,8 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.infrastructure.adapter.out.dto.RiotLeagueDTO;
-import com.coachdiff.infrastructure.config.RiotProperties;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotMethod;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -9,23 +10,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 
 @Component
 public class RiotLeagueClient {
   private static final Logger log = LoggerFactory.getLogger(RiotLeagueClient.class);
-  private final RestClient client;
+  private final RiotRoutes riotRoutes;
 
-  RiotLeagueClient(RestClient.Builder restClientBuilder, RiotProperties riotProperties) {
-    this.client = restClientBuilder.clone().baseUrl(riotProperties.api().baseUrlLeague()).build();
+  RiotLeagueClient(RiotRoutes riotRoutes) {
+    this.riotRoutes = riotRoutes;
   }
 
-  public Optional<RiotLeagueDTO> getRiotLeagueByPuuid(String puuid) {
+  public Optional<RiotLeagueDTO> getRiotLeagueByPuuid(Region region, String puuid) {
     log.debug("Fetching league data for puuid={}", puuid);
     List<RiotLeagueDTO> leagues =
-        client
+        riotRoutes
+            .platform(region)
             .get()
             .uri("/lol/league/v4/entries/by-puuid/{puuid}", puuid)
+            .attribute(RiotMethod.ATTRIBUTE, RiotMethod.LEAGUE_ENTRIES_BY_PUUID)
             .retrieve()
             .onStatus(HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
             .body(new ParameterizedTypeReference<>() {});
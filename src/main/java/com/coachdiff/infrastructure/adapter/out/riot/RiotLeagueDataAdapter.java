@@ -2,6 +2,7 @@ package com.coachdiff.infrastructure.adapter.out.riot;
 
 import com.coachdiff.domain.model.Division;
 import com.coachdiff.domain.model.Rank;
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Tier;
 import com.coachdiff.domain.port.out.FetchLeagueDataPort;
 import java.util.Optional;
@@ -16,8 +17,8 @@ public class RiotLeagueDataAdapter implements FetchLeagueDataPort {
   }
 
   @Override
-  public Optional<Rank> getLeagueDataByPuuid(String puuid) {
-    var leagueData = client.getRiotLeagueByPuuid(puuid);
+  public Optional<Rank> getLeagueDataByPuuid(Region region, String puuid) {
+    var leagueData = client.getRiotLeagueByPuuid(region, puuid);
 
     return leagueData.map(
         dto ->
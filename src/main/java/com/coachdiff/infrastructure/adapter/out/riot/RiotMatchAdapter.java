@@ -1,47 +1,104 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
 import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Role;
 import com.coachdiff.domain.port.out.FetchMatchDetailsPort;
 import com.coachdiff.infrastructure.adapter.out.dto.RiotMatchDTO;
-import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineDTO;
+import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineFramesDTO;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRateLimitRegistry;
+import com.coachdiff.infrastructure.config.RiotProperties;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RiotMatchAdapter implements FetchMatchDetailsPort {
   private static final Logger log = LoggerFactory.getLogger(RiotMatchAdapter.class);
   private final RiotMatchClient riotMatchClient;
-
-  RiotMatchAdapter(RiotMatchClient riotMatchClient) {
+  private final RiotRateLimitRegistry rateLimitRegistry;
+  private final RiotRoutes riotRoutes;
+  private final int maxConcurrentFetches;
+  private final boolean ingestAllParticipants;
+
+  RiotMatchAdapter(
+      RiotMatchClient riotMatchClient,
+      RiotRateLimitRegistry rateLimitRegistry,
+      RiotRoutes riotRoutes,
+      RiotProperties riotProperties,
+      @Value("${coach-diff.ingest-all-participants}") boolean ingestAllParticipants) {
     this.riotMatchClient = riotMatchClient;
+    this.rateLimitRegistry = rateLimitRegistry;
+    this.riotRoutes = riotRoutes;
+    this.maxConcurrentFetches = riotProperties.rateLimit().maxConcurrentFetches();
+    this.ingestAllParticipants = ingestAllParticipants;
+  }
+
+  @Override
+  public List<String> getMatchIdsByPuuid(Region region, String puuid) {
+    return riotMatchClient.getMatchesIds(region, puuid);
   }
 
   @Override
-  public List<String> getMatchIdsByPuuid(String puuid) {
-    return riotMatchClient.getMatchesIds(puuid);
+  public List<String> getMatchIdsByPuuidSince(Region region, String puuid, long gameCreation) {
+    // Riot filters in whole seconds from startTime on; starting the second after the newest known
+    // game leaves it out, so a player without new games gets an empty list
+    return riotMatchClient.getMatchesIds(region, puuid, gameCreation / 1000 + 1);
   }
 
   @Override
-  public List<Match> getMatchRecords(String puuid, List<String> matchIds) {
+  public List<String> getSeasonMatchIdsPage(Region region, String puuid, int start, int count) {
+    return riotMatchClient.getSeasonMatchesIds(region, puuid, start, count);
+  }
+
+  @Override
+  public List<Match> getMatchRecords(Region region, String puuid, List<String> matchIds) {
+    // One subtask per (match, payload), but never more in flight than the limiter can serve now
+    var permits = new Semaphore(fetchConcurrency(region));
+    Predicate<String> wantedPuuid = ingestAllParticipants ? p -> true : puuid::equals;
+
     try (var scope =
         StructuredTaskScope.open(StructuredTaskScope.Joiner.awaitAllSuccessfulOrThrow())) {
-      StructuredTaskScope.Subtask<List<RiotMatchDTO>> matchDetailsTask =
-          scope.fork(() -> getMatchesDetails(matchIds));
-      StructuredTaskScope.Subtask<List<RiotTimelineDTO>> matchTimelineTask =
-          scope.fork(() -> getMatchesTimelines(matchIds));
+      List<StructuredTaskScope.Subtask<RiotMatchDTO>> matchDetailsTasks =
+          matchIds.stream()
+              .map(
+                  matchId ->
+                      scope.fork(
+                          () ->
+                              throttled(
+                                  permits, () -> riotMatchClient.getMatchData(region, matchId))))
+              .toList();
+      List<StructuredTaskScope.Subtask<Map<String, RiotTimelineFramesDTO>>> matchTimelineTasks =
+          matchIds.stream()
+              .map(
+                  matchId ->
+                      scope.fork(
+                          () ->
+                              throttled(
+                                  permits,
+                                  () ->
+                                      ingestAllParticipants
+                                          ? riotMatchClient.getMatchTimelineFrames(region, matchId)
+                                          : riotMatchClient.getMatchTimelineFrames(
+                                              region, matchId, puuid))))
+              .toList();
 
       scope.join();
 
-      var matchDetails = matchDetailsTask.get();
-      var matchTimelines = matchTimelineTask.get();
+      var matchDetails = matchDetailsTasks.stream().map(StructuredTaskScope.Subtask::get).toList();
+      var matchTimelines =
+          matchTimelineTasks.stream().map(StructuredTaskScope.Subtask::get).toList();
 
-      return combineToMatchRecords(puuid, matchIds, matchDetails, matchTimelines);
+      return combineToMatchRecords(wantedPuuid, matchIds, matchDetails, matchTimelines);
     } catch (InterruptedException e) {
       log.error("Thread interrupted while fetching match data", e);
       Thread.currentThread().interrupt();
@@ -54,53 +111,54 @@ public class RiotMatchAdapter implements FetchMatchDetailsPort {
     }
   }
 
-  private List<RiotMatchDTO> getMatchesDetails(List<String> matchIds) {
-    return matchIds.stream().map(riotMatchClient::getMatchData).toList();
+  private int fetchConcurrency(Region region) {
+    return Math.clamp(
+        rateLimitRegistry.appBucket(riotRoutes.regionalHost(region)).availablePermits(),
+        1,
+        maxConcurrentFetches);
   }
 
-  private List<RiotTimelineDTO> getMatchesTimelines(List<String> matchIds) {
-    return matchIds.stream().map(riotMatchClient::getMatchTimelineData).toList();
+  private static <T> T throttled(Semaphore permits, Supplier<T> call) throws InterruptedException {
+    permits.acquire();
+    try {
+      return call.get();
+    } finally {
+      permits.release();
+    }
   }
 
   private List<Match> combineToMatchRecords(
-      String puuid,
+      Predicate<String> wantedPuuid,
       List<String> matchIds,
       List<RiotMatchDTO> matchDetails,
-      List<RiotTimelineDTO> matchTimelines) {
+      List<Map<String, RiotTimelineFramesDTO>> matchTimelines) {
     return IntStream.range(0, matchDetails.size())
-        .mapToObj(
+        .boxed()
+        .flatMap(
             i ->
-                findParticipantByPuuid(puuid, matchDetails.get(i))
+                matchDetails.get(i).info().participants().stream()
+                    .filter(p -> wantedPuuid.test(p.puuid()))
                     .map(
                         p ->
                             toMatchRecord(
                                 matchIds.get(i),
                                 matchDetails.get(i),
-                                matchTimelines.get(i),
-                                p,
-                                puuid)))
-        .flatMap(Optional::stream)
+                                Optional.ofNullable(matchTimelines.get(i).get(p.puuid())),
+                                p)))
         .toList();
   }
 
-  private Optional<RiotMatchDTO.Participant> findParticipantByPuuid(
-      String puuid, RiotMatchDTO match) {
-    return match.info().participants().stream().filter(p -> p.puuid().equals(puuid)).findFirst();
-  }
-
   private Match toMatchRecord(
       String matchId,
       RiotMatchDTO match,
-      RiotTimelineDTO timeline,
-      RiotMatchDTO.Participant p,
-      String puuid) {
+      Optional<RiotTimelineFramesDTO> timelineFrames,
+      RiotMatchDTO.Participant p) {
     var c = p.challenges();
     double gameDurationMinutes = match.info().gameDuration() / 60.0;
     double csPerMinute = (p.totalMinionsKilled() + p.neutralMinionsKilled()) / gameDurationMinutes;
     double damagePerGold =
         p.goldEarned() == 0 ? 0.0 : (double) p.totalDamageDealtToChampions() / p.goldEarned();
 
-    var timelineFrames = extractTimelineFrames(puuid, timeline);
     Double csAt10 = null;
     Double goldAt10 = null;
     Double goldAt15 = null;
@@ -111,8 +169,8 @@ public class RiotMatchAdapter implements FetchMatchDetailsPort {
       csAt10 = (double) (at10.minionsKilled() + at10.jungleMinionsKilled());
       goldAt10 = (double) at10.totalGold();
 
-      if (timelineFrames.get().at15().isPresent()) {
-        var at15 = timelineFrames.get().at15().get();
+      var at15 = timelineFrames.get().at15();
+      if (at15 != null) {
         goldAt15 = (double) at15.totalGold();
         xpAt15 = (double) at15.xp();
       }
@@ -120,9 +178,10 @@ public class RiotMatchAdapter implements FetchMatchDetailsPort {
 
     return new Match(
         matchId,
-        puuid,
+        p.puuid(),
         p.win(),
         gameDurationMinutes,
+        match.info().gameCreation(),
         p.championName(),
         Role.fromRiotRole(p.teamPosition()),
         p.kills(),
@@ -149,32 +208,4 @@ public class RiotMatchAdapter implements FetchMatchDetailsPort {
         goldAt15,
         xpAt15);
   }
-
-  private Optional<TimelineFrames> extractTimelineFrames(String puuid, RiotTimelineDTO timeline) {
-    int index = timeline.metadata().participants().indexOf(puuid);
-    if (index == -1) {
-      return Optional.empty();
-    }
-
-    String participantId = String.valueOf(index + 1);
-    List<RiotTimelineDTO.Frame> frames = timeline.info().frames();
-
-    if (frames.size() <= 10) {
-      return Optional.empty();
-    }
-
-    var at10 = frames.get(10).participantFrames().get(participantId);
-    var at15 =
-        Optional.ofNullable(
-            frames.size() <= 15 ? null : frames.get(15).participantFrames().get(participantId));
-
-    if (at10 == null) {
-      return Optional.empty();
-    }
-
-    return Optional.of(new TimelineFrames(at10, at15));
-  }
-
-  private record TimelineFrames(
-      RiotTimelineDTO.ParticipantFrame at10, Optional<RiotTimelineDTO.ParticipantFrame> at15) {}
 }
@@ -1,78 +1,170 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.infrastructure.adapter.out.dto.RiotMatchDTO;
-import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineDTO;
-import com.coachdiff.infrastructure.config.RiotProperties;
-import io.github.resilience4j.ratelimiter.RateLimiter;
+import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineFramesDTO;
+import com.coachdiff.infrastructure.adapter.out.exception.RiotNotFoundException;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotMethod;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 
 @Component
 public class RiotMatchClient {
   private static final Logger log = LoggerFactory.getLogger(RiotMatchClient.class);
-  private final RateLimiter rateLimiter;
-  private final RestClient riotMatchesClient;
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final ResponseErrorHandler STATUS_HANDLER = new DefaultResponseErrorHandler();
+  private final RiotRoutes riotRoutes;
   private final long seasonStartEpoch;
+  private final SingleFlight<MatchIdsKey, List<String>> matchIdsFlights;
+  private final SingleFlight<MatchKey, RiotMatchDTO> matchFlights;
+  private final SingleFlight<TimelineKey, Map<String, RiotTimelineFramesDTO>> timelineFlights;
 
   RiotMatchClient(
-      RestClient.Builder restClientBuilder,
-      RiotProperties riotProperties,
-      RateLimiter rateLimiter,
-      @Value("${coach-diff.season-start-epoch}") long seasonStartEpoch) {
-    this.rateLimiter = rateLimiter;
+      RiotRoutes riotRoutes,
+      @Value("${coach-diff.season-start-epoch}") long seasonStartEpoch,
+      MeterRegistry meterRegistry) {
+    this.riotRoutes = riotRoutes;
     this.seasonStartEpoch = seasonStartEpoch;
-    this.riotMatchesClient =
-        restClientBuilder.clone().baseUrl(riotProperties.api().baseUrlMatch()).build();
+    this.matchIdsFlights = new SingleFlight<>("match-ids", meterRegistry);
+    this.matchFlights = new SingleFlight<>("match", meterRegistry);
+    this.timelineFlights = new SingleFlight<>("match-timeline", meterRegistry);
   }
 
-  public List<String> getMatchesIds(String puuid) {
-    log.debug("Fetching match IDs for puuid={}, seasonStart={}", puuid, seasonStartEpoch);
+  public List<String> getMatchesIds(Region region, String puuid) {
+    return getMatchesIds(region, puuid, seasonStartEpoch);
+  }
+
+  /**
+   * Match IDs of every game started at or after {@code startTime} (epoch seconds), newest first.
+   * Riot lists at most 100 per call, so pages are read until one comes back short.
+   */
+  public List<String> getMatchesIds(Region region, String puuid, long startTime) {
+    long since = Math.max(startTime, seasonStartEpoch);
+    List<String> matchIds = new ArrayList<>();
+    for (int start = 0; ; start += MAX_PAGE_SIZE) {
+      var page = getMatchesIds(region, puuid, since, start, MAX_PAGE_SIZE);
+      if (page != null) {
+        matchIds.addAll(page);
+      }
+      if (page == null || page.size() < MAX_PAGE_SIZE) {
+        // A game finished while paging shifts the list by one, repeating an ID
+        return matchIds.stream().distinct().toList();
+      }
+    }
+  }
+
+  /** One page of the season's match IDs, newest first. Riot caps {@code count} at 100. */
+  public List<String> getSeasonMatchesIds(Region region, String puuid, int start, int count) {
+    return getMatchesIds(region, puuid, seasonStartEpoch, start, count);
+  }
+
+  private List<String> getMatchesIds(
+      Region region, String puuid, long startTime, int start, int count) {
+    return matchIdsFlights.execute(
+        new MatchIdsKey(region, puuid, startTime, start, count),
+        () -> fetchMatchesIds(region, puuid, startTime, start, count));
+  }
+
+  private List<String> fetchMatchesIds(
+      Region region, String puuid, long startTime, int start, int count) {
+    log.debug(
+        "Fetching match IDs for puuid={}, startTime={}, start={}, count={}",
+        puuid,
+        startTime,
+        start,
+        count);
     List<String> result =
-        rateLimiter.executeSupplier(
-            () ->
-                riotMatchesClient
-                    .get()
-                    .uri(
-                        "/lol/match/v5/matches/by-puuid/{puuid}/ids?queue=420&start=0&count=20&startTime={startTime}",
-                        puuid,
-                        seasonStartEpoch)
-                    .retrieve()
-                    .onStatus(
-                        HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
-                    .body(new ParameterizedTypeReference<>() {}));
+        riotRoutes
+            .regional(region)
+            .get()
+            .uri(
+                "/lol/match/v5/matches/by-puuid/{puuid}/ids?queue=420&start={start}&count={count}&startTime={startTime}",
+                puuid,
+                start,
+                count,
+                startTime)
+            .attribute(RiotMethod.ATTRIBUTE, RiotMethod.MATCH_IDS_BY_PUUID)
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
+            .body(new ParameterizedTypeReference<>() {});
     log.debug("Found {} match IDs for puuid={}", result != null ? result.size() : 0, puuid);
     return result;
   }
 
-  public RiotMatchDTO getMatchData(String matchId) {
+  public RiotMatchDTO getMatchData(Region region, String matchId) {
+    return matchFlights.execute(
+        new MatchKey(region, matchId), () -> fetchMatchData(region, matchId));
+  }
+
+  private RiotMatchDTO fetchMatchData(Region region, String matchId) {
     log.debug("Fetching match details for matchId={}", matchId);
-    return rateLimiter.executeSupplier(
-        () ->
-            riotMatchesClient
-                .get()
-                .uri("/lol/match/v5/matches/{matchId}", matchId)
-                .retrieve()
-                .onStatus(
-                    HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
-                .body(RiotMatchDTO.class));
+    return riotRoutes
+        .regional(region)
+        .get()
+        .uri("/lol/match/v5/matches/{matchId}", matchId)
+        .attribute(RiotMethod.ATTRIBUTE, RiotMethod.MATCH)
+        .retrieve()
+        .onStatus(HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
+        .body(RiotMatchDTO.class);
+  }
+
+  /**
+   * Timelines are by far the largest Riot payload, so the body is streamed and only frames 10 and
+   * 15 are kept, keyed by puuid. Empty when the game ended before minute 10.
+   */
+  public Map<String, RiotTimelineFramesDTO> getMatchTimelineFrames(Region region, String matchId) {
+    return timelineFlights.execute(
+        new TimelineKey(region, matchId, null),
+        () -> fetchMatchTimelineFrames(region, matchId, participant -> true));
+  }
+
+  /** The frames of one participant only; parsing stops once they have been read. */
+  public Map<String, RiotTimelineFramesDTO> getMatchTimelineFrames(
+      Region region, String matchId, String puuid) {
+    // Keyed by participant too, so a shared call never parses more than its callers need
+    return timelineFlights.execute(
+        new TimelineKey(region, matchId, puuid),
+        () -> fetchMatchTimelineFrames(region, matchId, puuid::equals));
   }
 
-  public RiotTimelineDTO getMatchTimelineData(String matchId) {
+  private Map<String, RiotTimelineFramesDTO> fetchMatchTimelineFrames(
+      Region region, String matchId, Predicate<String> wantedPuuid) {
     log.debug("Fetching timeline for matchId={}", matchId);
-    return rateLimiter.executeSupplier(
-        () ->
-            riotMatchesClient
-                .get()
-                .uri("/lol/match/v5/matches/{matchId}/timeline", matchId)
-                .retrieve()
-                .onStatus(
-                    HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
-                .body(RiotTimelineDTO.class));
+    return riotRoutes
+        .regional(region)
+        .get()
+        .uri("/lol/match/v5/matches/{matchId}/timeline", matchId)
+        .attribute(RiotMethod.ATTRIBUTE, RiotMethod.MATCH_TIMELINE)
+        .exchange(
+            (request, response) -> {
+              // As with retrieve(), 4xx go to the Riot handler and 5xx to the default one. The
+              // handler lets only a 404 through, which must not be parsed as an empty timeline
+              if (response.getStatusCode().is4xxClientError()) {
+                RiotExceptionHandler.handleRiotException(request, response);
+                throw new RiotNotFoundException(404, "Match timeline not found on the Riot API");
+              }
+              if (response.getStatusCode().isError()) {
+                STATUS_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+              }
+              return RiotTimelineFramesParser.parse(response.getBody(), wantedPuuid);
+            });
   }
+
+  private record MatchIdsKey(Region region, String puuid, long startTime, int start, int count) {}
+
+  private record MatchKey(Region region, String matchId) {}
+
+  // participant is null for calls keeping every participant
+  private record TimelineKey(Region region, String matchId, String participant) {}
 }
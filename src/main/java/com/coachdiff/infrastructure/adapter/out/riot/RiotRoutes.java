@@ -0,0 +1,62 @@
+package com.coachdiff.infrastructure.adapter.out.riot;
+
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.infrastructure.config.RiotProperties;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Routes Riot calls for a {@link Region}. League and summoner endpoints are served by the platform
+ * (euw1, na1, ...), account and match endpoints by the regional cluster (europe, americas, asia).
+ * Every routing value gets its own client and, since Riot limits each host separately, its own
+ * rate-limit buckets.
+ */
+@Component
+public class RiotRoutes {
+  private static final String ROUTE_PLACEHOLDER = "{route}";
+
+  private final RestClient.Builder restClientBuilder;
+  private final String baseUrl;
+  private final Map<String, RestClient> clients = new ConcurrentHashMap<>();
+
+  RiotRoutes(RestClient.Builder restClientBuilder, RiotProperties riotProperties) {
+    this.restClientBuilder = restClientBuilder;
+    this.baseUrl = riotProperties.api().baseUrl();
+  }
+
+  public RestClient platform(Region region) {
+    return client(platformRoute(region));
+  }
+
+  public RestClient regional(Region region) {
+    return client(regionalRoute(region));
+  }
+
+  public String regionalHost(Region region) {
+    return URI.create(url(regionalRoute(region))).getHost();
+  }
+
+  static String platformRoute(Region region) {
+    return region.name().toLowerCase(Locale.ROOT);
+  }
+
+  static String regionalRoute(Region region) {
+    return switch (region) {
+      case EUW1, EUN1 -> "europe";
+      case NA1 -> "americas";
+      case KR, JP1 -> "asia";
+    };
+  }
+
+  private RestClient client(String route) {
+    return clients.computeIfAbsent(route, r -> restClientBuilder.clone().baseUrl(url(r)).build());
+  }
+
+  private String url(String route) {
+    return baseUrl.replace(ROUTE_PLACEHOLDER, route);
+  }
+}
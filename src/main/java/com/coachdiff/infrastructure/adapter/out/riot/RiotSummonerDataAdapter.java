@@ -1,5 +1,6 @@
 package com.coachdiff.infrastructure.adapter.out.riot;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Summoner;
 import com.coachdiff.domain.port.out.FetchSummonerDataPort;
 import com.coachdiff.infrastructure.adapter.out.dto.RiotSummonerDTO;
@@ -18,8 +19,8 @@ public class RiotSummonerDataAdapter implements FetchSummonerDataPort {
   }
 
   @Override
-  public Optional<Summoner> getSummonerDataByPuuid(String puuid) {
-    return client.getRiotSummonerByPuuid(puuid).map(this::createSummonerRecord);
+  public Optional<Summoner> getSummonerDataByPuuid(Region region, String puuid) {
+    return client.getRiotSummonerByPuuid(region, puuid).map(this::createSummonerRecord);
   }
 
   private Summoner createSummonerRecord(RiotSummonerDTO dto) {
@@ -0,0 +1,183 @@
+package com.coachdiff.infrastructure.adapter.out.riot;
+
+import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineFramesDTO;
+import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineFramesDTO.ParticipantFrame;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams a match-v5 timeline and keeps only frames 10 and 15 of the wanted participants. Events
+ * and every other frame are skipped without being materialized, and reading stops right after frame
+ * 15.
+ */
+final class RiotTimelineFramesParser {
+  private static final int FRAME_AT_10 = 10;
+  private static final int FRAME_AT_15 = 15;
+
+  private final Predicate<String> wantedPuuid;
+  private List<String> participants;
+  private final Map<String, ParticipantFrame> at10 = new HashMap<>();
+  private final Map<String, ParticipantFrame> at15 = new HashMap<>();
+
+  private RiotTimelineFramesParser(Predicate<String> wantedPuuid) {
+    this.wantedPuuid = wantedPuuid;
+  }
+
+  /** Frames keyed by puuid; participants without a frame 10 are left out. */
+  static Map<String, RiotTimelineFramesDTO> parse(InputStream body, Predicate<String> wantedPuuid) {
+    var parser = new RiotTimelineFramesParser(wantedPuuid);
+    try (JsonParser json = JsonMapper.shared().createParser(body)) {
+      parser.readTimeline(json);
+    }
+    return parser.result();
+  }
+
+  private void readTimeline(JsonParser json) {
+    if (json.nextToken() != JsonToken.START_OBJECT) {
+      return;
+    }
+
+    while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+      var field = json.currentName();
+      json.nextToken();
+      switch (field) {
+        case "metadata" -> readMetadata(json);
+        case "info" -> {
+          if (readInfo(json)) {
+            return;
+          }
+        }
+        default -> json.skipChildren();
+      }
+    }
+  }
+
+  private void readMetadata(JsonParser json) {
+    while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+      var field = json.currentName();
+      json.nextToken();
+      if ("participants".equals(field) && json.currentToken() == JsonToken.START_ARRAY) {
+        participants = new ArrayList<>();
+        while (json.nextToken() != JsonToken.END_ARRAY) {
+          participants.add(json.getValueAsString());
+        }
+      } else {
+        json.skipChildren();
+      }
+    }
+  }
+
+  /** Returns true once frame 15 was read and nothing after it can matter, so parsing can stop. */
+  private boolean readInfo(JsonParser json) {
+    while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+      var field = json.currentName();
+      json.nextToken();
+      if ("frames".equals(field) && json.currentToken() == JsonToken.START_ARRAY) {
+        if (readFrames(json)) {
+          return true;
+        }
+      } else {
+        json.skipChildren();
+      }
+    }
+    return false;
+  }
+
+  private boolean readFrames(JsonParser json) {
+    int index = 0;
+    while (json.nextToken() == JsonToken.START_OBJECT) {
+      switch (index) {
+        case FRAME_AT_10 -> readFrame(json, at10);
+        case FRAME_AT_15 -> {
+          readFrame(json, at15);
+          if (participants != null) {
+            return true;
+          }
+        }
+        default -> json.skipChildren();
+      }
+      index++;
+    }
+    return false;
+  }
+
+  private void readFrame(JsonParser json, Map<String, ParticipantFrame> target) {
+    while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+      var field = json.currentName();
+      json.nextToken();
+      if (!"participantFrames".equals(field)) {
+        json.skipChildren();
+        continue;
+      }
+
+      while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+        var participantId = json.currentName();
+        json.nextToken();
+        // Metadata normally comes first; if it did not, keep every participant and pick later
+        if (participants == null || isWanted(participantId)) {
+          target.put(participantId, readParticipantFrame(json));
+        } else {
+          json.skipChildren();
+        }
+      }
+    }
+  }
+
+  private ParticipantFrame readParticipantFrame(JsonParser json) {
+    int minionsKilled = 0;
+    int jungleMinionsKilled = 0;
+    int totalGold = 0;
+    int xp = 0;
+
+    while (json.nextToken() == JsonToken.PROPERTY_NAME) {
+      var field = json.currentName();
+      json.nextToken();
+      switch (field) {
+        case "minionsKilled" -> minionsKilled = json.getIntValue();
+        case "jungleMinionsKilled" -> jungleMinionsKilled = json.getIntValue();
+        case "totalGold" -> totalGold = json.getIntValue();
+        case "xp" -> xp = json.getIntValue();
+        default -> json.skipChildren();
+      }
+    }
+    return new ParticipantFrame(minionsKilled, jungleMinionsKilled, totalGold, xp);
+  }
+
+  /** Riot's participant ids run from "1" to "10" in the order of the metadata puuids. */
+  private boolean isWanted(String participantId) {
+    var puuid = puuidOf(participantId);
+    return puuid != null && wantedPuuid.test(puuid);
+  }
+
+  private String puuidOf(String participantId) {
+    try {
+      int index = Integer.parseInt(participantId) - 1;
+      return index >= 0 && index < participants.size() ? participants.get(index) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private Map<String, RiotTimelineFramesDTO> result() {
+    var frames = new HashMap<String, RiotTimelineFramesDTO>();
+    if (participants == null) {
+      return frames;
+    }
+
+    at10.forEach(
+        (participantId, frame) -> {
+          if (isWanted(participantId)) {
+            frames.put(
+                puuidOf(participantId), new RiotTimelineFramesDTO(frame, at15.get(participantId)));
+          }
+        });
+    return frames;
+  }
+}
@@ -0,0 +1,69 @@
+package com.coachdiff.infrastructure.adapter.out.riot;
+
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical Riot calls: while a call for a key is in flight, later callers
+ * wait for its result instead of spending another rate-limit permit. Interactive callers never join
+ * a background call, which may sit behind the interactive reserve for much longer.
+ */
+class SingleFlight<K, V> {
+  private final Map<FlightKey<K>, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter coalesced;
+
+  SingleFlight(String call, MeterRegistry meterRegistry) {
+    this.coalesced =
+        Counter.builder("riot.requests.coalesced")
+            .description("Riot calls answered by an identical call already in flight")
+            .tag("call", call)
+            .register(meterRegistry);
+  }
+
+  V execute(K key, Supplier<V> call) {
+    var flightKey = new FlightKey<>(key, RiotPriority.current().isBackground());
+    var flight = new CompletableFuture<V>();
+    var running = inFlight.putIfAbsent(flightKey, flight);
+    if (running != null) {
+      coalesced.increment();
+      return join(running);
+    }
+
+    try {
+      var result = call.get();
+      flight.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  private V join(CompletableFuture<V> running) {
+    try {
+      return running.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      // Callers sharing the call see what the caller making it saw
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private record FlightKey<K>(K key, boolean background) {}
+}
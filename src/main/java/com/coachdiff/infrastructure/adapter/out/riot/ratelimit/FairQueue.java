@@ -0,0 +1,123 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import com.coachdiff.domain.model.RequestOwner;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * The Riot calls waiting on one host. Priority classes are served strictly in order; within a class
+ * calls are ordered by start-time fair queuing, so while two owners both have calls queued, one of
+ * weight 4 is served four times for every call of one with weight 1. Calls whose method limit is
+ * used up don't hold the line, so one exhausted endpoint doesn't stall the others on the host.
+ */
+class FairQueue {
+  // Owners whose last call is already behind the virtual clock carry no state worth keeping
+  private static final int MAX_TRACKED_OWNERS = 1024;
+  private static final Comparator<Ticket> ORDER =
+      Comparator.comparingDouble(Ticket::start).thenComparingLong(Ticket::sequence);
+
+  private final Predicate<RiotMethod> methodReady;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final List<TreeSet<Ticket>> waiting = new ArrayList<>();
+  private final Map<Long, Double> lastFinish = new HashMap<>();
+  private double virtualTime;
+  private long sequence;
+
+  record Ticket(RiotPriority priority, RiotMethod method, double start, long sequence) {}
+
+  /** {@code methodReady} tells whether a call to the method could take a permit right now. */
+  FairQueue(Predicate<RiotMethod> methodReady) {
+    this.methodReady = methodReady;
+    for (int i = 0; i < RiotPriority.values().length; i++) {
+      waiting.add(new TreeSet<>(ORDER));
+    }
+  }
+
+  Ticket enqueue(RiotPriority priority, RiotMethod method, RequestOwner owner) {
+    lock.lock();
+    try {
+      double start = Math.max(virtualTime, lastFinish.getOrDefault(owner.accountId(), 0.0));
+      lastFinish.put(owner.accountId(), start + 1.0 / owner.weight());
+
+      var ticket = new Ticket(priority, method, start, sequence++);
+      waiting.get(priority.ordinal()).add(ticket);
+      return ticket;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Whether {@code ticket} is first in line: no call of a higher class and no earlier turn waits,
+   * leaving out calls whose method has no permit to give.
+   */
+  boolean isNext(Ticket ticket) {
+    lock.lock();
+    try {
+      Map<RiotMethod, Boolean> ready = new HashMap<>();
+      for (int higher = 0; higher < ticket.priority().ordinal(); higher++) {
+        for (var ahead : waiting.get(higher)) {
+          if (ready.computeIfAbsent(ahead.method(), this::isReady)) {
+            return false;
+          }
+        }
+      }
+      for (var ahead : waiting.get(ticket.priority().ordinal()).headSet(ticket)) {
+        if (ready.computeIfAbsent(ahead.method(), this::isReady)) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isReady(RiotMethod method) {
+    return method == null || methodReady.test(method);
+  }
+
+  void served(Ticket ticket) {
+    lock.lock();
+    try {
+      virtualTime = Math.max(virtualTime, ticket.start());
+      if (lastFinish.size() > MAX_TRACKED_OWNERS) {
+        lastFinish.values().removeIf(finish -> finish <= virtualTime);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void remove(Ticket ticket) {
+    lock.lock();
+    try {
+      if (waiting.get(ticket.priority().ordinal()).remove(ticket)) {
+        changed.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Waits up to {@code nanos}, returning early when a call leaves the queue. */
+  void await(long nanos) {
+    lock.lock();
+    try {
+      changed.awaitNanos(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the shared Riot budget from permits leased in blocks, so only every {@code blockSize}-th
+ * call costs a round trip to the {@link PermitLease}. Permits still unused once {@code hold} has
+ * passed are given back by the next call, or by {@link #giveBackExpired()}, which the owner runs on
+ * a timer so a quiet instance doesn't keep the others' budget charged. {@link #close()} gives back
+ * the rest on shutdown.
+ */
+public class LeasedPermits implements SharedRateLimit, AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(LeasedPermits.class);
+  private static final long RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final PermitLease lease;
+  private final int blockSize;
+  private final long holdNanos;
+  private final LongSupplier nanoClock;
+  private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+  public LeasedPermits(PermitLease lease, int blockSize, Duration hold) {
+    this(lease, blockSize, hold, System::nanoTime);
+  }
+
+  LeasedPermits(PermitLease lease, int blockSize, Duration hold, LongSupplier nanoClock) {
+    this.lease = lease;
+    this.blockSize = blockSize;
+    this.holdNanos = hold.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public long tryAcquire(String host) {
+    var pool = pools.computeIfAbsent(host, h -> new Pool());
+    // Held across the lease, so concurrent callers wait for one block instead of each leasing one
+    pool.lock.lock();
+    try {
+      long now = nanoClock.getAsLong();
+      if (pool.expiresAt <= now && pool.permits > 0) {
+        giveBack(host, pool);
+      }
+
+      if (pool.permits == 0) {
+        if (pool.retryAt > now) {
+          return pool.retryAt - now;
+        }
+
+        var grant = leaseBlock(host);
+        if (grant == null || grant.permits() == 0) {
+          pool.retryAt = now + RETRY_NANOS;
+          return RETRY_NANOS;
+        }
+        pool.permits = grant.permits();
+        pool.leasedAt = grant.leasedAt();
+        pool.expiresAt = now + holdNanos;
+      }
+
+      pool.permits--;
+      return 0;
+    } finally {
+      pool.lock.unlock();
+    }
+  }
+
+  @Override
+  public void release(String host) {
+    var pool = pools.get(host);
+    if (pool == null) {
+      return;
+    }
+
+    pool.lock.lock();
+    try {
+      // Given back with the rest of the block if the hold has passed meanwhile
+      pool.permits++;
+    } finally {
+      pool.lock.unlock();
+    }
+  }
+
+  /** Gives back the permits of every host whose hold has passed. */
+  public void giveBackExpired() {
+    long now = nanoClock.getAsLong();
+    pools.forEach(
+        (host, pool) -> {
+          pool.lock.lock();
+          try {
+            if (pool.expiresAt <= now && pool.permits > 0) {
+              giveBack(host, pool);
+            }
+          } finally {
+            pool.lock.unlock();
+          }
+        });
+  }
+
+  /** Gives back every unused permit, held or not. */
+  @Override
+  public void close() {
+    pools.forEach(
+        (host, pool) -> {
+          pool.lock.lock();
+          try {
+            if (pool.permits > 0) {
+              giveBack(host, pool);
+            }
+          } finally {
+            pool.lock.unlock();
+          }
+        });
+  }
+
+  private PermitLease.Grant leaseBlock(String host) {
+    try {
+      return lease.lease(bucket(host), blockSize);
+    } catch (RuntimeException e) {
+      // Falling back to the local buckets would let every instance spend the full budget at once
+      log.warn("Could not lease shared Riot permits for {}, retrying shortly", host, e);
+      return null;
+    }
+  }
+
+  private void giveBack(String host, Pool pool) {
+    int unused = pool.permits;
+    pool.permits = 0;
+    try {
+      lease.giveBack(bucket(host), unused, pool.leasedAt);
+    } catch (RuntimeException e) {
+      // Only costs budget until the shared windows start over
+      log.warn("Could not give back {} shared Riot permits for {}", unused, host, e);
+    }
+  }
+
+  private static String bucket(String host) {
+    return "app:" + host;
+  }
+
+  private static final class Pool {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int permits;
+    private Instant leasedAt;
+    private long expiresAt = Long.MIN_VALUE;
+    private long retryAt = Long.MIN_VALUE;
+  }
+}
@@ -0,0 +1,19 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.time.Instant;
+
+/** Store of rate-limit windows shared by every instance, from which permits are taken in blocks. */
+public interface PermitLease {
+
+  /** Takes up to {@code count} permits from {@code bucket}; the grant may hold fewer, or none. */
+  Grant lease(String bucket, int count);
+
+  /**
+   * Returns {@code count} unused permits of a grant to the windows it was taken from. Windows that
+   * have started over since are left alone, the permits were never charged to them.
+   */
+  void giveBack(String bucket, int count, Instant leasedAt);
+
+  /** {@code leasedAt} is the store's own clock, so giving back does not depend on ours. */
+  record Grant(int permits, Instant leasedAt) {}
+}
@@ -0,0 +1,128 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases permits from the {@code riot_rate_limit} table. Each configured window is one row per
+ * bucket; the rows are locked for the lease, so instances taking permits at the same time are
+ * serialized and their total never exceeds the configured limits. Leases run in a transaction of
+ * their own, so the locks are released before the Riot call even if the caller has one open.
+ */
+public class PostgresPermitLease implements PermitLease {
+  private final JdbcClient jdbcClient;
+  private final TransactionTemplate transactionTemplate;
+  private final List<int[]> limits;
+
+  public PostgresPermitLease(
+      JdbcClient jdbcClient, PlatformTransactionManager transactionManager, String limits) {
+    this.jdbcClient = jdbcClient;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.limits = RateLimitWindow.parsePairs(limits);
+  }
+
+  @Override
+  public Grant lease(String bucket, int count) {
+    return transactionTemplate.execute(status -> leaseLocked(bucket, count));
+  }
+
+  @Override
+  public void giveBack(String bucket, int count, Instant leasedAt) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            jdbcClient
+                .sql(
+                    """
+                    UPDATE riot_rate_limit
+                    SET used = GREATEST(0, used - :count)
+                    WHERE bucket = :bucket
+                      AND window_started_at <= :leasedAt
+                      AND window_started_at + make_interval(secs => window_seconds) > now()
+                    """)
+                .param("count", count)
+                .param("bucket", bucket)
+                .param("leasedAt", OffsetDateTime.ofInstant(leasedAt, ZoneOffset.UTC))
+                .update());
+  }
+
+  private Grant leaseLocked(String bucket, int count) {
+    var windows = lockWindows(bucket);
+    if (windows.size() < limits.size()) {
+      createWindows(bucket);
+      windows = lockWindows(bucket);
+    }
+
+    int granted = count;
+    for (int[] limit : limits) {
+      var window = windows.get(limit[1]);
+      int used = window == null || window.elapsed() ? 0 : window.used();
+      granted = Math.min(granted, Math.max(0, limit[0] - used));
+    }
+
+    if (granted > 0) {
+      jdbcClient
+          .sql(
+              """
+              UPDATE riot_rate_limit
+              SET window_started_at = CASE WHEN window_started_at
+                      + make_interval(secs => window_seconds) <= now()
+                    THEN now() ELSE window_started_at END,
+                  used = CASE WHEN window_started_at
+                      + make_interval(secs => window_seconds) <= now()
+                    THEN 0 ELSE used END + :granted
+              WHERE bucket = :bucket
+              """)
+          .param("granted", granted)
+          .param("bucket", bucket)
+          .update();
+    }
+    var leasedAt = jdbcClient.sql("SELECT now()").query(OffsetDateTime.class).single().toInstant();
+    return new Grant(granted, leasedAt);
+  }
+
+  private Map<Integer, Window> lockWindows(String bucket) {
+    return jdbcClient
+        .sql(
+            """
+            SELECT window_seconds, used,
+                   window_started_at + make_interval(secs => window_seconds) <= now() AS elapsed
+            FROM riot_rate_limit
+            WHERE bucket = :bucket
+            FOR UPDATE
+            """)
+        .param("bucket", bucket)
+        .query(
+            (rs, rowNum) ->
+                new Window(
+                    rs.getInt("window_seconds"), rs.getInt("used"), rs.getBoolean("elapsed")))
+        .list()
+        .stream()
+        .collect(Collectors.toMap(Window::seconds, window -> window));
+  }
+
+  private void createWindows(String bucket) {
+    for (int[] limit : limits) {
+      jdbcClient
+          .sql(
+              """
+              INSERT INTO riot_rate_limit (bucket, window_seconds, window_started_at, used)
+              VALUES (:bucket, :seconds, now(), 0)
+              ON CONFLICT DO NOTHING
+              """)
+          .param("bucket", bucket)
+          .param("seconds", limit[1])
+          .update();
+    }
+  }
+
+  private record Window(int seconds, int used, boolean elapsed) {}
+}
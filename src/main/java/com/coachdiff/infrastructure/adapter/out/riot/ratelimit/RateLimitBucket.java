@@ -0,0 +1,198 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi-window token bucket for a Riot rate limit. A permit is only granted when every window has
+ * room, and the windows are re-synchronized from the limit/count headers Riot returns.
+ */
+public class RateLimitBucket {
+  private static final Logger log = LoggerFactory.getLogger(RateLimitBucket.class);
+  private final String name;
+  private final LongSupplier nanoClock;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<RateLimitWindow> windows = new ArrayList<>();
+  private long blockedUntilNanos;
+
+  public RateLimitBucket(String name, String limits) {
+    this(name, limits, System::nanoTime);
+  }
+
+  RateLimitBucket(String name, String limits, LongSupplier nanoClock) {
+    this.name = name;
+    this.nanoClock = nanoClock;
+    for (int[] pair : RateLimitWindow.parsePairs(limits)) {
+      windows.add(new RateLimitWindow(pair[0], pair[1]));
+    }
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /** Takes a permit if every window has room, otherwise returns the nanos to wait. */
+  public long tryAcquire() {
+    return tryAcquireAll(List.of(this));
+  }
+
+  /** Blocks until a permit is available, failing once {@code timeout} would be exceeded. */
+  public void acquire(Duration timeout) {
+    acquireAll(List.of(this), timeout);
+  }
+
+  /**
+   * Takes one permit from every bucket, or none of them. Callers must always pass buckets in the
+   * same order (application before method) so the locks cannot deadlock.
+   */
+  static long tryAcquireAll(List<RateLimitBucket> buckets) {
+    buckets.forEach(bucket -> bucket.lock.lock());
+    try {
+      long wait = 0;
+      for (RateLimitBucket bucket : buckets) {
+        wait = Math.max(wait, bucket.nanosUntilAvailable());
+      }
+      if (wait > 0) {
+        return wait;
+      }
+
+      buckets.forEach(RateLimitBucket::consume);
+      return 0;
+    } finally {
+      buckets.reversed().forEach(bucket -> bucket.lock.unlock());
+    }
+  }
+
+  static void acquireAll(List<RateLimitBucket> buckets, Duration timeout) {
+    var clock = buckets.getFirst().nanoClock;
+    long deadline = clock.getAsLong() + timeout.toNanos();
+
+    while (true) {
+      long wait = tryAcquireAll(buckets);
+      if (wait == 0) {
+        return;
+      }
+
+      long remaining = deadline - clock.getAsLong();
+      if (wait > remaining) {
+        throw new RiotRateLimitException(
+            429, "Timed out waiting for the " + buckets.getLast().name + " Riot rate limit");
+      }
+
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /** Permits that can be taken right now without waiting; unbounded until a window is known. */
+  public int availablePermits() {
+    lock.lock();
+    try {
+      long now = nanoClock.getAsLong();
+      if (blockedUntilNanos > now) {
+        return 0;
+      }
+
+      int available = Integer.MAX_VALUE;
+      for (RateLimitWindow window : windows) {
+        available = Math.min(available, window.available(now));
+      }
+      return available;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Holds back every permit for {@code duration}, as instructed by a Riot Retry-After header. */
+  public void blockFor(Duration duration) {
+    lock.lock();
+    try {
+      blockedUntilNanos = Math.max(blockedUntilNanos, nanoClock.getAsLong() + duration.toNanos());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long nanosUntilAvailable() {
+    long now = nanoClock.getAsLong();
+    long wait = Math.max(0, blockedUntilNanos - now);
+    for (RateLimitWindow window : windows) {
+      wait = Math.max(wait, window.nanosUntilAvailable(now));
+    }
+    return wait;
+  }
+
+  private void consume() {
+    long now = nanoClock.getAsLong();
+    for (RateLimitWindow window : windows) {
+      window.consume(now);
+    }
+  }
+
+  /**
+   * Aligns the windows with a Riot response, e.g. {@code X-App-Rate-Limit: 20:1,100:120} and {@code
+   * X-App-Rate-Limit-Count: 3:1,40:120}. Windows missing from the limits header are dropped and new
+   * ones are added, so the bucket follows whatever budget the key actually has.
+   */
+  public void synchronize(String limitsHeader, String countsHeader) {
+    var limits = RateLimitWindow.parsePairs(limitsHeader);
+    var counts = RateLimitWindow.parsePairs(countsHeader);
+    if (limits.isEmpty()) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      long now = nanoClock.getAsLong();
+      List<RateLimitWindow> synced = new ArrayList<>();
+      for (int[] limit : limits) {
+        var window = findWindow(limit[1]);
+        if (window == null) {
+          window = new RateLimitWindow(limit[0], limit[1]);
+          log.debug("Rate limit {} learned new window {}:{}", name, limit[0], limit[1]);
+        } else if (window.limit() != limit[0]) {
+          log.debug(
+              "Rate limit {} window {}s changed from {} to {}",
+              name,
+              limit[1],
+              window.limit(),
+              limit[0]);
+          window.setLimit(limit[0]);
+        }
+        synced.add(window);
+      }
+
+      windows.clear();
+      windows.addAll(synced);
+
+      for (int[] count : counts) {
+        var window = findWindow(count[1]);
+        if (window != null) {
+          window.observeCount(count[0], now);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private RateLimitWindow findWindow(long durationSeconds) {
+    for (RateLimitWindow window : windows) {
+      if (window.durationSeconds() == durationSeconds) {
+        return window;
+      }
+    }
+    return null;
+  }
+}
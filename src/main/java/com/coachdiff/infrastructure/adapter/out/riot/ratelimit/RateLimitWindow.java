@@ -0,0 +1,94 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One Riot rate-limit window, e.g. 100 requests per 120 seconds. Like Riot's own windows, it starts
+ * on the first request and resets once its duration has elapsed.
+ */
+class RateLimitWindow {
+  private final long durationSeconds;
+  private int limit;
+  private int count;
+  private long startNanos = -1;
+
+  RateLimitWindow(int limit, long durationSeconds) {
+    this.limit = limit;
+    this.durationSeconds = durationSeconds;
+  }
+
+  long durationSeconds() {
+    return durationSeconds;
+  }
+
+  int limit() {
+    return limit;
+  }
+
+  int count() {
+    return count;
+  }
+
+  void setLimit(int limit) {
+    this.limit = limit;
+  }
+
+  /** Returns the nanos to wait before this window has room, or 0 if a permit is available. */
+  long nanosUntilAvailable(long now) {
+    resetIfElapsed(now);
+    if (count < limit) {
+      return 0;
+    }
+    return startNanos + durationNanos() - now;
+  }
+
+  int available(long now) {
+    resetIfElapsed(now);
+    return Math.max(0, limit - count);
+  }
+
+  void consume(long now) {
+    if (startNanos < 0) {
+      startNanos = now;
+    }
+    count++;
+  }
+
+  void observeCount(int observedCount, long now) {
+    resetIfElapsed(now);
+    if (observedCount > count) {
+      if (startNanos < 0) {
+        startNanos = now;
+      }
+      count = observedCount;
+    }
+  }
+
+  private void resetIfElapsed(long now) {
+    if (startNanos >= 0 && now - startNanos >= durationNanos()) {
+      startNanos = -1;
+      count = 0;
+    }
+  }
+
+  private long durationNanos() {
+    return durationSeconds * 1_000_000_000L;
+  }
+
+  /** Parses Riot's {@code limit:seconds} pairs, as in {@code "20:1,100:120"}. */
+  static List<int[]> parsePairs(String header) {
+    List<int[]> pairs = new ArrayList<>();
+    if (header == null || header.isBlank()) {
+      return pairs;
+    }
+
+    for (String pair : header.split(",")) {
+      String[] parts = pair.trim().split(":");
+      if (parts.length == 2) {
+        pairs.add(new int[] {Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())});
+      }
+    }
+    return pairs;
+  }
+}
@@ -0,0 +1,26 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+/**
+ * Riot endpoints that carry their own method rate limit. Clients tag each request with {@link
+ * #ATTRIBUTE} so the interceptor can pick the matching bucket.
+ */
+public enum RiotMethod {
+  ACCOUNT_BY_RIOT_ID("account-v1.getByRiotId"),
+  LEAGUE_ENTRIES_BY_PUUID("league-v4.getLeagueEntriesByPUUID"),
+  SUMMONER_BY_PUUID("summoner-v4.getByPUUID"),
+  MATCH_IDS_BY_PUUID("match-v5.getMatchIdsByPUUID"),
+  MATCH("match-v5.getMatch"),
+  MATCH_TIMELINE("match-v5.getTimeline");
+
+  public static final String ATTRIBUTE = RiotMethod.class.getName();
+
+  private final String key;
+
+  RiotMethod(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+}
@@ -0,0 +1,33 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.util.Locale;
+
+/**
+ * Scheduling class of a Riot call, highest first. Background jobs bind theirs with {@link #CURRENT}
+ * for the duration of the run; anything unbound is treated as a user waiting on a response.
+ */
+public enum RiotPriority {
+  INTERACTIVE,
+  REFRESH,
+  BACKFILL,
+  CRAWL;
+
+  public static final ScopedValue<RiotPriority> CURRENT = ScopedValue.newInstance();
+
+  public static RiotPriority current() {
+    return CURRENT.orElse(INTERACTIVE);
+  }
+
+  /** Runs {@code task} so its Riot calls, forked subtasks included, use this priority. */
+  public void run(Runnable task) {
+    ScopedValue.where(CURRENT, this).run(task);
+  }
+
+  public boolean isBackground() {
+    return this != INTERACTIVE;
+  }
+
+  String tag() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
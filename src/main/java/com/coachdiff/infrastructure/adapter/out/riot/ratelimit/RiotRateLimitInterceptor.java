@@ -0,0 +1,104 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Applies the Riot rate limits to every outgoing request, taking permits through the {@link
+ * RiotRequestScheduler} so background work yields to interactive calls. A 429 is not surfaced
+ * straight away: the exceeded bucket is held back for the Retry-After period and only the rejected
+ * call is re-issued, as long as it still fits in the retry budget, the retry deadline and the
+ * caller's own priority timeout.
+ */
+public class RiotRateLimitInterceptor implements ClientHttpRequestInterceptor {
+  private static final Logger log = LoggerFactory.getLogger(RiotRateLimitInterceptor.class);
+  static final String APP_RATE_LIMIT = "X-App-Rate-Limit";
+  static final String APP_RATE_LIMIT_COUNT = "X-App-Rate-Limit-Count";
+  static final String METHOD_RATE_LIMIT = "X-Method-Rate-Limit";
+  static final String METHOD_RATE_LIMIT_COUNT = "X-Method-Rate-Limit-Count";
+  static final String RATE_LIMIT_TYPE = "X-Rate-Limit-Type";
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+  private final RiotRateLimitRegistry registry;
+  private final RiotRequestScheduler scheduler;
+  private final int maxRetries;
+  private final Duration retryDeadline;
+
+  public RiotRateLimitInterceptor(
+      RiotRateLimitRegistry registry,
+      RiotRequestScheduler scheduler,
+      int maxRetries,
+      Duration retryDeadline) {
+    this.registry = registry;
+    this.scheduler = scheduler;
+    this.maxRetries = maxRetries;
+    this.retryDeadline = retryDeadline;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var host = request.getURI().getHost();
+    var method = (RiotMethod) request.getAttributes().get(RiotMethod.ATTRIBUTE);
+    // A retry is no use to a caller who has already stopped waiting, so it can't outlast the
+    // priority's own timeout
+    var timeout = scheduler.timeout(RiotPriority.current());
+    long deadline = System.nanoTime() + Math.min(retryDeadline.toNanos(), timeout.toNanos());
+    scheduler.acquire(host, method);
+
+    for (int attempt = 1; ; attempt++) {
+      var response = execution.execute(request, body);
+      synchronize(host, method, response.getHeaders());
+
+      if (response.getStatusCode().value() != 429) {
+        return response;
+      }
+
+      var retryAfter = retryAfter(response.getHeaders());
+      registry.blockFor(host, method, response.getHeaders().getFirst(RATE_LIMIT_TYPE), retryAfter);
+
+      long remaining = deadline - System.nanoTime();
+      if (attempt > maxRetries || retryAfter.toNanos() > remaining) {
+        log.warn(
+            "Riot rate limit hit on {} after {} attempts, giving up", request.getURI(), attempt);
+        return response;
+      }
+
+      log.info("Riot rate limit hit on {}, retrying in {}", request.getURI(), retryAfter);
+      response.close();
+      scheduler.acquire(host, method, Duration.ofNanos(remaining));
+    }
+  }
+
+  private void synchronize(String host, RiotMethod method, HttpHeaders headers) {
+    registry
+        .appBucket(host)
+        .synchronize(headers.getFirst(APP_RATE_LIMIT), headers.getFirst(APP_RATE_LIMIT_COUNT));
+    if (method != null) {
+      registry
+          .methodBucket(host, method)
+          .synchronize(
+              headers.getFirst(METHOD_RATE_LIMIT), headers.getFirst(METHOD_RATE_LIMIT_COUNT));
+    }
+  }
+
+  private static Duration retryAfter(HttpHeaders headers) {
+    var retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+    if (retryAfter == null) {
+      return DEFAULT_RETRY_AFTER;
+    }
+
+    try {
+      return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+    } catch (NumberFormatException e) {
+      return DEFAULT_RETRY_AFTER;
+    }
+  }
+}
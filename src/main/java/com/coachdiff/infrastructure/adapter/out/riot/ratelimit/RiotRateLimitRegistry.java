@@ -0,0 +1,52 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the Riot rate-limit buckets. Riot enforces the application limit per routing host and a
+ * separate method limit per (routing host, endpoint), so each pair gets its own bucket.
+ */
+public class RiotRateLimitRegistry {
+  private final String appLimits;
+  private final Map<String, RateLimitBucket> appBuckets = new ConcurrentHashMap<>();
+  private final Map<MethodKey, RateLimitBucket> methodBuckets = new ConcurrentHashMap<>();
+
+  public RiotRateLimitRegistry(String appLimits) {
+    this.appLimits = appLimits;
+  }
+
+  public RateLimitBucket appBucket(String host) {
+    return appBuckets.computeIfAbsent(host, h -> new RateLimitBucket("app:" + h, appLimits));
+  }
+
+  /** Method limits are unknown until Riot reports them, so a new bucket starts without windows. */
+  public RateLimitBucket methodBucket(String host, RiotMethod method) {
+    return methodBuckets.computeIfAbsent(
+        new MethodKey(host, method),
+        key -> new RateLimitBucket(method.getKey() + ":" + host, null));
+  }
+
+  /**
+   * Applies a Riot Retry-After to the bucket that was exceeded. Method and service limits only hold
+   * back the endpoint that was rejected; an application limit holds back the whole host.
+   */
+  public void blockFor(String host, RiotMethod method, String limitType, Duration retryAfter) {
+    if (method == null || "application".equals(limitType)) {
+      appBucket(host).blockFor(retryAfter);
+    } else {
+      methodBucket(host, method).blockFor(retryAfter);
+    }
+  }
+
+  List<RateLimitBucket> buckets(String host, RiotMethod method) {
+    if (method == null) {
+      return List.of(appBucket(host));
+    }
+    return List.of(appBucket(host), methodBucket(host, method));
+  }
+
+  private record MethodKey(String host, RiotMethod method) {}
+}
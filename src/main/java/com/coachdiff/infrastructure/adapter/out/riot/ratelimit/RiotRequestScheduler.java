@@ -0,0 +1,125 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import com.coachdiff.domain.model.RequestOwner;
+import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out Riot rate-limit permits by {@link RiotPriority}. A call only competes for a permit
+ * while no higher class call that could take one is waiting on the same host, and background
+ * classes only take permits beyond the interactive reserve, so they drain idle capacity instead of
+ * queueing ahead of users. Within a class, the {@link RequestOwner}s take turns in proportion to
+ * their weight.
+ */
+public class RiotRequestScheduler {
+  // Waiters that are not up next re-check at least this often
+  private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final RiotRateLimitRegistry registry;
+  private final SharedRateLimit sharedRateLimit;
+  private final int interactiveReserve;
+  private final Duration interactiveTimeout;
+  private final Duration backgroundTimeout;
+  private final Map<String, FairQueue> queues = new ConcurrentHashMap<>();
+  private final Map<RiotPriority, AtomicInteger> queued = new EnumMap<>(RiotPriority.class);
+  private final Map<RiotPriority, Timer> waitTimers = new EnumMap<>(RiotPriority.class);
+
+  public RiotRequestScheduler(
+      RiotRateLimitRegistry registry,
+      SharedRateLimit sharedRateLimit,
+      int interactiveReserve,
+      Duration interactiveTimeout,
+      Duration backgroundTimeout,
+      MeterRegistry meterRegistry) {
+    this.registry = registry;
+    this.sharedRateLimit = sharedRateLimit;
+    this.interactiveReserve = interactiveReserve;
+    this.interactiveTimeout = interactiveTimeout;
+    this.backgroundTimeout = backgroundTimeout;
+
+    for (RiotPriority priority : RiotPriority.values()) {
+      var depth = new AtomicInteger();
+      queued.put(priority, depth);
+      Gauge.builder("riot.requests.queued", depth, AtomicInteger::get)
+          .description("Riot calls waiting for a rate-limit permit")
+          .tag("priority", priority.tag())
+          .register(meterRegistry);
+      waitTimers.put(
+          priority,
+          Timer.builder("riot.requests.wait")
+              .description("Time Riot calls spent waiting for a rate-limit permit")
+              .tag("priority", priority.tag())
+              .register(meterRegistry));
+    }
+  }
+
+  /** Blocks until the current priority may call {@code host}, within that priority's timeout. */
+  public void acquire(String host, RiotMethod method) {
+    acquire(host, method, timeout(RiotPriority.current()));
+  }
+
+  /** How long a call of {@code priority} may wait for its permits. */
+  public Duration timeout(RiotPriority priority) {
+    return priority.isBackground() ? backgroundTimeout : interactiveTimeout;
+  }
+
+  public void acquire(String host, RiotMethod method, Duration timeout) {
+    var priority = RiotPriority.current();
+    var queue =
+        queues.computeIfAbsent(
+            host, h -> new FairQueue(m -> registry.methodBucket(h, m).availablePermits() > 0));
+    var ticket = queue.enqueue(priority, method, RequestOwner.current());
+    long start = System.nanoTime();
+    long deadline = start + timeout.toNanos();
+
+    queued.get(priority).incrementAndGet();
+    try {
+      while (true) {
+        boolean next = queue.isNext(ticket);
+        long wait = next && mayUseAppBudget(host, priority) ? tryAcquire(host, method) : POLL_NANOS;
+        if (wait == 0) {
+          queue.served(ticket);
+          return;
+        }
+
+        long pause = next && !priority.isBackground() ? wait : Math.min(wait, POLL_NANOS);
+        if (pause > deadline - System.nanoTime()) {
+          throw new RiotRateLimitException(
+              429, "Timed out waiting for the " + priority.tag() + " Riot rate limit on " + host);
+        }
+
+        queue.await(pause);
+      }
+    } finally {
+      queue.remove(ticket);
+      queued.get(priority).decrementAndGet();
+      waitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private long tryAcquire(String host, RiotMethod method) {
+    long wait = sharedRateLimit.tryAcquire(host);
+    if (wait > 0) {
+      return wait;
+    }
+
+    wait = RateLimitBucket.tryAcquireAll(registry.buckets(host, method));
+    if (wait > 0) {
+      sharedRateLimit.release(host);
+    }
+    return wait;
+  }
+
+  private boolean mayUseAppBudget(String host, RiotPriority priority) {
+    return !priority.isBackground()
+        || registry.appBucket(host).availablePermits() > interactiveReserve;
+  }
+}
@@ -0,0 +1,26 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+/**
+ * The part of a Riot budget that is shared with other instances running on the same key. Checked
+ * before the local buckets, so a call only goes out when both have room.
+ */
+public interface SharedRateLimit {
+  SharedRateLimit NONE =
+      new SharedRateLimit() {
+        @Override
+        public long tryAcquire(String host) {
+          return 0;
+        }
+
+        @Override
+        public void release(String host) {}
+      };
+
+  /** Takes a permit for {@code host}, otherwise returns the nanos to wait before trying again. */
+  long tryAcquire(String host);
+
+  /**
+   * Hands back a permit that was taken but could not be used, e.g. because a local bucket is full.
+   */
+  void release(String host);
+}
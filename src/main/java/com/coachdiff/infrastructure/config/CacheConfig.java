@@ -16,7 +16,8 @@ public class CacheConfig {
   @Bean
   CacheManager cacheManager() {
     var cacheManager = new SimpleCacheManager();
-    cacheManager.setCaches(List.of(buildCache("account-details", 1)));
+    cacheManager.setCaches(
+        List.of(buildCache("account-details", 1), buildCache("recent-role-aggregates", 1_000)));
     return cacheManager;
   }
 
@@ -1,5 +1,6 @@
 package com.coachdiff.infrastructure.config;
 
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRateLimitInterceptor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,7 +16,9 @@ public class RiotApiConfig {
   }
 
   @Bean
-  RestClient.Builder riotRestClient() {
-    return RestClient.builder().defaultHeader("X-Riot-Token", riotApiKey);
+  RestClient.Builder riotRestClient(RiotRateLimitInterceptor riotRateLimitInterceptor) {
+    return RestClient.builder()
+        .defaultHeader("X-Riot-Token", riotApiKey)
+        .requestInterceptor(riotRateLimitInterceptor);
   }
 }
@@ -4,14 +4,22 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "riot")
 public record RiotProperties(RiotApi api, RiotDdragon ddragon, RiotRateLimit rateLimit) {
-  public record RiotApi(
-      String key,
-      String baseUrlAccounts,
-      String baseUrlLeague,
-      String baseUrlSummoner,
-      String baseUrlMatch) {}
+  /**
+   * {@code baseUrl} holds a {@code {route}} placeholder for the platform or regional routing value.
+   */
+  public record RiotApi(String key, String baseUrl) {}
 
   public record RiotDdragon(String baseUrl, String version) {}
 
-  public record RiotRateLimit(int requestsPerSecond, int timeoutSeconds) {}
+  public record RiotRateLimit(
+      String appLimits,
+      int timeoutSeconds,
+      int maxRetries,
+      int retryDeadlineSeconds,
+      int maxConcurrentFetches,
+      int interactiveReserve,
+      int backgroundTimeoutSeconds,
+      boolean distributed,
+      int leaseSize,
+      int leaseHoldMillis) {}
 }
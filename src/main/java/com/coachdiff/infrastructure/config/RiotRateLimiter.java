@@ -1,10 +1,19 @@
 package com.coachdiff.infrastructure.config;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.LeasedPermits;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.PostgresPermitLease;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRateLimitInterceptor;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRateLimitRegistry;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRequestScheduler;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.SharedRateLimit;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class RiotRateLimiter {
@@ -15,13 +24,57 @@ public class RiotRateLimiter {
   }
 
   @Bean
-  RateLimiter rateLimiter() {
-    return RateLimiter.of(
-        "riot-api",
-        RateLimiterConfig.custom()
-            .limitForPeriod(riotProps.rateLimit().requestsPerSecond())
-            .limitRefreshPeriod(Duration.ofSeconds(1))
-            .timeoutDuration(Duration.ofSeconds(riotProps.rateLimit().timeoutSeconds()))
-            .build());
+  RiotRateLimitRegistry riotRateLimitRegistry() {
+    return new RiotRateLimitRegistry(riotProps.rateLimit().appLimits());
+  }
+
+  /**
+   * Every instance enforces the full budget locally. With {@code distributed} on, they also lease
+   * app-limit permits from Postgres, so their combined rate stays within the one budget of the key.
+   * Method limits are not shared: each instance only holds itself to them, and a method that
+   * several instances call heavily may still be answered with a 429, which the interceptor retries.
+   */
+  @Bean
+  SharedRateLimit sharedRateLimit(
+      ObjectProvider<JdbcClient> jdbcClient,
+      ObjectProvider<PlatformTransactionManager> transactionManager,
+      ObjectProvider<TaskScheduler> taskScheduler) {
+    var rateLimit = riotProps.rateLimit();
+    if (!rateLimit.distributed()) {
+      return SharedRateLimit.NONE;
+    }
+
+    var lease =
+        new PostgresPermitLease(
+            jdbcClient.getObject(), transactionManager.getObject(), rateLimit.appLimits());
+    var hold = Duration.ofMillis(rateLimit.leaseHoldMillis());
+    var permits = new LeasedPermits(lease, rateLimit.leaseSize(), hold);
+    // Closed as a bean on shutdown, which gives back whatever is left
+    taskScheduler.getObject().scheduleWithFixedDelay(permits::giveBackExpired, hold);
+    return permits;
+  }
+
+  @Bean
+  RiotRequestScheduler riotRequestScheduler(
+      RiotRateLimitRegistry riotRateLimitRegistry,
+      SharedRateLimit sharedRateLimit,
+      MeterRegistry meterRegistry) {
+    return new RiotRequestScheduler(
+        riotRateLimitRegistry,
+        sharedRateLimit,
+        riotProps.rateLimit().interactiveReserve(),
+        Duration.ofSeconds(riotProps.rateLimit().timeoutSeconds()),
+        Duration.ofSeconds(riotProps.rateLimit().backgroundTimeoutSeconds()),
+        meterRegistry);
+  }
+
+  @Bean
+  RiotRateLimitInterceptor riotRateLimitInterceptor(
+      RiotRateLimitRegistry riotRateLimitRegistry, RiotRequestScheduler riotRequestScheduler) {
+    return new RiotRateLimitInterceptor(
+        riotRateLimitRegistry,
+        riotRequestScheduler,
+        riotProps.rateLimit().maxRetries(),
+        Duration.ofSeconds(riotProps.rateLimit().retryDeadlineSeconds()));
   }
 }
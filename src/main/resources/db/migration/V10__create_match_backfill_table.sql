@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS match_backfill (
+    puuid      VARCHAR(100) PRIMARY KEY,
+    next_start INTEGER      NOT NULL,
+    completed  BOOLEAN      NOT NULL
+);
\ No newline at end of file
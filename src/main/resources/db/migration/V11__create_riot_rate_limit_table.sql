@@ -0,0 +1,8 @@
+-- Riot rate-limit windows shared by every instance; permits are leased from here in blocks
+CREATE TABLE IF NOT EXISTS riot_rate_limit (
+    bucket            VARCHAR(100) NOT NULL,
+    window_seconds    INTEGER      NOT NULL,
+    window_started_at TIMESTAMPTZ  NOT NULL,
+    used              INTEGER      NOT NULL,
+    PRIMARY KEY (bucket, window_seconds)
+);
@@ -0,0 +1,62 @@
+-- Running sums and counts of a player's season matches, per role, for every champion and for all
+-- of them together (champion_name '*'). Averages are sum / games, and a game can be taken out
+-- again by subtracting its values.
+CREATE TABLE IF NOT EXISTS match_aggregate_state (
+    puuid         VARCHAR(100) NOT NULL,
+    role          VARCHAR(20)  NOT NULL,
+    champion_name VARCHAR(50)  NOT NULL,
+    games         INTEGER      NOT NULL,
+    wins          INTEGER      NOT NULL,
+
+    -- Combat
+    kills                   BIGINT           NOT NULL,
+    deaths                  BIGINT           NOT NULL,
+    assists                 BIGINT           NOT NULL,
+    kda                     DOUBLE PRECISION NOT NULL,
+    solo_kills              BIGINT           NOT NULL,
+    damage_per_minute       DOUBLE PRECISION NOT NULL,
+    damage_per_gold         DOUBLE PRECISION NOT NULL,
+    team_damage_percentage  DOUBLE PRECISION NOT NULL,
+    damage_taken_percentage DOUBLE PRECISION NOT NULL,
+    kill_participation      DOUBLE PRECISION NOT NULL,
+
+    -- Economy (missing timeline stats count as 0)
+    gold_per_minute DOUBLE PRECISION NOT NULL,
+    cs_per_minute   DOUBLE PRECISION NOT NULL,
+    cs_at10         DOUBLE PRECISION NOT NULL,
+    gold_at10       DOUBLE PRECISION NOT NULL,
+    gold_at15       DOUBLE PRECISION NOT NULL,
+    xp_at15         DOUBLE PRECISION NOT NULL,
+
+    -- Objectives
+    damage_to_turrets    BIGINT NOT NULL,
+    damage_to_objectives BIGINT NOT NULL,
+    turret_plates_taken  BIGINT NOT NULL,
+
+    -- Vision
+    vision_score_per_minute DOUBLE PRECISION NOT NULL,
+    wards_placed            BIGINT           NOT NULL,
+    wards_killed            BIGINT           NOT NULL,
+    control_wards_placed    BIGINT           NOT NULL,
+
+    PRIMARY KEY (puuid, role, champion_name)
+);
+
+-- Quantile sketches of the benchmarked metrics over the same games, per role, as written by
+-- MetricSketches. Match inserts merge the sketches of the games they add into them.
+CREATE TABLE IF NOT EXISTS match_aggregate_sketch (
+    puuid    VARCHAR(100) NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    sketches BYTEA        NOT NULL,
+    PRIMARY KEY (puuid, role)
+);
+
+-- The season match_aggregate_state sums up. Match inserts only add games from this season on. On
+-- startup, MatchAggregateSeason rebuilds the state from match_data whenever this differs from
+-- coach-diff.season-start-epoch, which -1 always does, so the first startup fills the state.
+CREATE TABLE IF NOT EXISTS match_aggregate_season (
+    id           BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    season_start BIGINT  NOT NULL
+);
+
+INSERT INTO match_aggregate_season (season_start) VALUES (-1);
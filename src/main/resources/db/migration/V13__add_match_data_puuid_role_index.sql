@@ -0,0 +1,4 @@
+-- Recent matches are read in the account's coaching role only, newest first. Rows stored before
+-- game_creation existed sort last, as the reads order game_creation DESC NULLS LAST.
+CREATE INDEX IF NOT EXISTS idx_match_data_puuid_role_game_creation
+    ON match_data (puuid, role, game_creation DESC NULLS LAST);
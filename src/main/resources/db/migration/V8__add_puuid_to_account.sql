@@ -0,0 +1,2 @@
+ALTER TABLE IF EXISTS account
+    ADD COLUMN puuid VARCHAR(78);
\ No newline at end of file
@@ -0,0 +1,12 @@
+ALTER TABLE match_data
+ADD COLUMN game_creation BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_match_data_puuid_game_creation
+    ON match_data (puuid, game_creation DESC NULLS LAST);
+
+-- Newest game of a player's own match list that has been ingested. Rows stored for the other
+-- participants of a match do not count, since the games in between were never fetched.
+CREATE TABLE IF NOT EXISTS match_sync (
+    puuid                VARCHAR(100) PRIMARY KEY,
+    latest_game_creation BIGINT       NOT NULL
+);
\ No newline at end of file
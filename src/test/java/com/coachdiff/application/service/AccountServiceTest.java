@@ -2,8 +2,12 @@ package com.coachdiff.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.coachdiff.domain.exception.AccountNotFoundException;
@@ -12,6 +16,8 @@ import com.coachdiff.domain.model.Permission;
 import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Role;
 import com.coachdiff.domain.port.out.AccountPersistencePort;
+import com.coachdiff.domain.port.out.FetchRiotAccountPort;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,12 +30,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class AccountServiceTest {
   @Mock private AccountPersistencePort accountPersistencePort;
+  @Mock private FetchRiotAccountPort fetchRiotAccountPort;
 
   private AccountService accountService;
 
   @BeforeEach
   void setUp() {
-    accountService = new AccountService(accountPersistencePort);
+    accountService = new AccountService(accountPersistencePort, fetchRiotAccountPort);
   }
 
   @Test
@@ -51,13 +58,14 @@ public class AccountServiceTest {
   }
 
   @Test
-  void shouldCreateAccount() {
-    var account = createAccount();
+  void shouldCreateAccountWithoutCallingRiot() {
+    var account = createAccount().withPuuid(null);
     when(accountPersistencePort.saveAccount(account)).thenReturn(account);
 
-    var createdAccount = accountService.saveAccount(account);
+    var createdAccount = accountService.saveAccount(createAccount());
 
-    assertThat(createdAccount).isEqualTo(account);
+    assertThat(createdAccount.puuid()).isNull();
+    verifyNoInteractions(fetchRiotAccountPort);
   }
 
   @Test
@@ -66,7 +74,8 @@ public class AccountServiceTest {
         .thenReturn(Optional.of(createAccount()));
 
     var account =
-        new Account(12345L, "email@user.com", "Jhonny", "1234", Role.MID, Region.KR, Map.of());
+        new Account(
+            12345L, "email@user.com", "Jhonny", "1234", null, Role.MID, Region.KR, Map.of());
 
     accountService.updateAccount(account);
 
@@ -81,6 +90,52 @@ public class AccountServiceTest {
     assertThat(savedAccount.tag()).isEqualTo("1234");
     assertThat(savedAccount.role()).isEqualTo(Role.MID);
     assertThat(savedAccount.region()).isEqualTo(Region.KR);
+    assertThat(savedAccount.puuid()).isNull();
+    verifyNoInteractions(fetchRiotAccountPort);
+  }
+
+  @Test
+  void shouldKeepPuuidWhenRiotIdIsUnchanged() {
+    when(accountPersistencePort.loadAccount("email@user.com"))
+        .thenReturn(Optional.of(createAccount()));
+
+    var account =
+        new Account(
+            12345L, "email@user.com", "summoner-name", "1234", null, Role.MID, Region.KR, Map.of());
+
+    accountService.updateAccount(account);
+
+    ArgumentCaptor<Account> captor = ArgumentCaptor.captor();
+    verify(accountPersistencePort).updateAccount(captor.capture());
+    assertThat(captor.getValue().puuid()).isEqualTo("stored-puuid");
+    assertThat(captor.getValue().role()).isEqualTo(Role.MID);
+    verifyNoInteractions(fetchRiotAccountPort);
+  }
+
+  @Test
+  void shouldUpdateOnlyAccountsWhosePuuidChanged() {
+    var unchanged = createAccount();
+    var renamed =
+        new Account(
+            2L,
+            "other@user.com",
+            "other-name",
+            "EUW",
+            "old-puuid",
+            Role.ADC,
+            Region.EUW1,
+            Map.of());
+    when(accountPersistencePort.loadAllAccounts()).thenReturn(List.of(unchanged, renamed));
+    when(fetchRiotAccountPort.refreshPuuid(Region.EUW1, "summoner-name", "1234"))
+        .thenReturn(Optional.of("stored-puuid"));
+    when(fetchRiotAccountPort.refreshPuuid(Region.EUW1, "other-name", "EUW"))
+        .thenReturn(Optional.of("new-puuid"));
+
+    accountService.verifyPuuids();
+
+    verify(accountPersistencePort).savePuuid(renamed, "new-puuid");
+    verify(accountPersistencePort, never()).savePuuid(eq(unchanged), anyString());
+    verify(accountPersistencePort, never()).updateAccount(any());
   }
 
   @Test
@@ -88,7 +143,8 @@ public class AccountServiceTest {
     when(accountPersistencePort.loadAccount("unknown@email.com")).thenReturn(Optional.empty());
 
     var account =
-        new Account(12345L, "unknown@email.com", "Jhonny", "1234", Role.MID, Region.KR, Map.of());
+        new Account(
+            12345L, "unknown@email.com", "Jhonny", "1234", null, Role.MID, Region.KR, Map.of());
 
     assertThatThrownBy(() -> accountService.updateAccount(account))
         .isInstanceOf(AccountNotFoundException.class);
@@ -118,6 +174,7 @@ public class AccountServiceTest {
         "email@user.com",
         "summoner-name",
         "1234",
+        "stored-puuid",
         Role.JUNGLE,
         Region.EUW1,
         Map.of(Permission.BASE_USE, true));
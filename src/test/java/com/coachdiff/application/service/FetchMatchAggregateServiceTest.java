@@ -5,6 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.coachdiff.domain.model.Account;
+import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchBackfill;
+import com.coachdiff.domain.model.MatchScope;
+import com.coachdiff.domain.model.MatchWindow;
 import com.coachdiff.domain.model.Permission;
 import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Role;
@@ -12,11 +16,16 @@ import com.coachdiff.domain.port.out.*;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class FetchMatchAggregateServiceTest {
@@ -25,6 +34,9 @@ class FetchMatchAggregateServiceTest {
   @Mock private FetchRiotAccountPort fetchRiotAccountPort;
   @Mock private FetchMatchDetailsPort fetchMatchDetailsPort;
   @Mock private AccountPersistencePort accountPersistencePort;
+  @Mock private MatchSyncPort matchSyncPort;
+  @Mock private LoadMatchAggregatePort loadMatchAggregatePort;
+  @Mock private MatchBackfillPort matchBackfillPort;
 
   private FetchMatchAggregateService service;
   private final String name = "test";
@@ -40,7 +52,11 @@ class FetchMatchAggregateServiceTest {
             fetchMatchDetailsPort,
             loadMatchRecordsPort,
             saveMatchRecordsPort,
-            accountPersistencePort);
+            accountPersistencePort,
+            matchSyncPort,
+            loadMatchAggregatePort,
+            new RecentAggregateCache(loadMatchRecordsPort, new ConcurrentMapCacheManager()),
+            matchBackfillPort);
   }
 
   @Test
@@ -49,28 +65,45 @@ class FetchMatchAggregateServiceTest {
         .thenReturn(
             Optional.of(
                 new Account(
-                    1L, email, name, tag, Role.ADC, Region.KR, Map.of(Permission.BASE_USE, true))));
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    null,
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
 
-    when(fetchRiotAccountPort.getPuuid(name, tag)).thenReturn(Optional.of("fake-puuid"));
+    when(fetchRiotAccountPort.getPuuid(Region.KR, name, tag)).thenReturn(Optional.of("fake-puuid"));
 
-    when(fetchMatchDetailsPort.getMatchIdsByPuuid("fake-puuid"))
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "fake-puuid"))
         .thenReturn(List.of("EUW1_1111", "EUW1_1112"));
 
     when(loadMatchRecordsPort.loadExistingMatchRecords(
             "fake-puuid", List.of("EUW1_1111", "EUW1_1112")))
         .thenReturn(List.of(createMatchRecord("EUW1_1111", "fake-puuid")));
 
-    when(fetchMatchDetailsPort.getMatchRecords("fake-puuid", List.of("EUW1_1112")))
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "fake-puuid", List.of("EUW1_1112")))
         .thenReturn(List.of(createMatchRecord("EUW1_1112", "fake-puuid")));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("fake-puuid", 20))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_1111", "fake-puuid"),
+                createMatchRecord("EUW1_1112", "fake-puuid")));
 
-    var result = service.fetchMatchAggregation(email);
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
 
     verify(accountPersistencePort).loadAccount(email);
-    verify(fetchRiotAccountPort).getPuuid(name, tag);
-    verify(fetchMatchDetailsPort).getMatchIdsByPuuid("fake-puuid");
+    verify(fetchRiotAccountPort).getPuuid(Region.KR, name, tag);
+    verify(accountPersistencePort)
+        .savePuuid(
+            new Account(
+                1L, email, name, tag, null, Role.ADC, Region.KR, Map.of(Permission.BASE_USE, true)),
+            "fake-puuid");
+    verify(fetchMatchDetailsPort).getMatchIdsByPuuid(Region.KR, "fake-puuid");
     verify(loadMatchRecordsPort)
         .loadExistingMatchRecords("fake-puuid", List.of("EUW1_1111", "EUW1_1112"));
-    verify(fetchMatchDetailsPort).getMatchRecords("fake-puuid", List.of("EUW1_1112"));
+    verify(fetchMatchDetailsPort).getMatchRecords(Region.KR, "fake-puuid", List.of("EUW1_1112"));
     verify(saveMatchRecordsPort)
         .saveMatchRecords(List.of(createMatchRecord("EUW1_1112", "fake-puuid")));
 
@@ -78,26 +111,102 @@ class FetchMatchAggregateServiceTest {
     assertThat(result.wins()).isEqualTo(2);
   }
 
+  @Test
+  void shouldJoinRunningAggregationForTheSameAccount() throws Exception {
+    var account = new Account(1L, email, name, tag, "stored-puuid", Role.ADC, Region.KR, Map.of());
+    var fetchStarted = new CountDownLatch(1);
+    var releaseFetch = new CountDownLatch(1);
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(account));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "stored-puuid"))
+        .thenAnswer(
+            invocation -> {
+              fetchStarted.countDown();
+              releaseFetch.await();
+              return List.of("EUW1_8001");
+            });
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "stored-puuid", List.of("EUW1_8001")))
+        .thenReturn(List.of(createMatchRecord("EUW1_8001", "stored-puuid")));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(List.of(createMatchRecord("EUW1_8001", "stored-puuid")));
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var first =
+          CompletableFuture.supplyAsync(
+              () -> service.fetchMatchAggregation(email, MatchScope.RECENT), executor);
+      fetchStarted.await();
+      var second =
+          CompletableFuture.supplyAsync(
+              () -> service.fetchMatchAggregation(email, MatchScope.RECENT), executor);
+      Thread.sleep(100);
+      releaseFetch.countDown();
+
+      assertThat(second.get()).isSameAs(first.get());
+    }
+
+    verify(accountPersistencePort).loadAccount(email);
+    verify(saveMatchRecordsPort)
+        .saveMatchRecords(List.of(createMatchRecord("EUW1_8001", "stored-puuid")));
+  }
+
+  @Test
+  void shouldUseStoredPuuidWithoutRiotLookup() {
+    when(accountPersistencePort.loadAccount(email))
+        .thenReturn(
+            Optional.of(
+                new Account(
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    "stored-puuid",
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "stored-puuid"))
+        .thenReturn(List.of("EUW1_6001"));
+    when(loadMatchRecordsPort.loadExistingMatchRecords("stored-puuid", List.of("EUW1_6001")))
+        .thenReturn(List.of(createMatchRecord("EUW1_6001", "stored-puuid")));
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "stored-puuid", List.of()))
+        .thenReturn(List.of());
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(List.of(createMatchRecord("EUW1_6001", "stored-puuid")));
+
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    verifyNoInteractions(fetchRiotAccountPort);
+    assertThat(result.gamesAnalyzed()).isEqualTo(1);
+  }
+
   @Test
   void shouldFilterOutRemakes() {
     when(accountPersistencePort.loadAccount(email))
         .thenReturn(
             Optional.of(
                 new Account(
-                    1L, email, name, tag, Role.ADC, Region.KR, Map.of(Permission.BASE_USE, true))));
-    when(fetchRiotAccountPort.getPuuid(name, tag)).thenReturn(Optional.of("fake-puuid"));
-    when(fetchMatchDetailsPort.getMatchIdsByPuuid("fake-puuid"))
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    null,
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
+    when(fetchRiotAccountPort.getPuuid(Region.KR, name, tag)).thenReturn(Optional.of("fake-puuid"));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "fake-puuid"))
         .thenReturn(List.of("EUW1_2001", "EUW1_2002"));
     when(loadMatchRecordsPort.loadExistingMatchRecords(
             "fake-puuid", List.of("EUW1_2001", "EUW1_2002")))
         .thenReturn(List.of());
-    when(fetchMatchDetailsPort.getMatchRecords("fake-puuid", List.of("EUW1_2001", "EUW1_2002")))
+    when(fetchMatchDetailsPort.getMatchRecords(
+            Region.KR, "fake-puuid", List.of("EUW1_2001", "EUW1_2002")))
         .thenReturn(
             List.of(
                 createMatchRecord("EUW1_2001", "fake-puuid", 25.0),
                 createMatchRecord("EUW1_2002", "fake-puuid", 3.0)));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("fake-puuid", 20))
+        .thenReturn(List.of(createMatchRecord("EUW1_2001", "fake-puuid", 25.0)));
 
-    var result = service.fetchMatchAggregation(email);
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
 
     verify(saveMatchRecordsPort)
         .saveMatchRecords(List.of(createMatchRecord("EUW1_2001", "fake-puuid", 25.0)));
@@ -110,22 +219,35 @@ class FetchMatchAggregateServiceTest {
         .thenReturn(
             Optional.of(
                 new Account(
-                    1L, email, name, tag, Role.ADC, Region.KR, Map.of(Permission.BASE_USE, true))));
-    when(fetchRiotAccountPort.getPuuid(name, tag)).thenReturn(Optional.of("fake-puuid"));
-    when(fetchMatchDetailsPort.getMatchIdsByPuuid("fake-puuid"))
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    null,
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
+    when(fetchRiotAccountPort.getPuuid(Region.KR, name, tag)).thenReturn(Optional.of("fake-puuid"));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "fake-puuid"))
         .thenReturn(List.of("EUW1_4001", "EUW1_4002", "EUW1_4003"));
     when(loadMatchRecordsPort.loadExistingMatchRecords(
             "fake-puuid", List.of("EUW1_4001", "EUW1_4002", "EUW1_4003")))
         .thenReturn(List.of());
     when(fetchMatchDetailsPort.getMatchRecords(
-            "fake-puuid", List.of("EUW1_4001", "EUW1_4002", "EUW1_4003")))
+            Region.KR, "fake-puuid", List.of("EUW1_4001", "EUW1_4002", "EUW1_4003")))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_4001", "fake-puuid", 30.0, "Jinx", Role.ADC),
+                createMatchRecord("EUW1_4002", "fake-puuid", 25.0, "Lux", Role.SUPPORT),
+                createMatchRecord("EUW1_4003", "fake-puuid", 28.0, "Caitlyn", Role.ADC)));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("fake-puuid", 20))
         .thenReturn(
             List.of(
                 createMatchRecord("EUW1_4001", "fake-puuid", 30.0, "Jinx", Role.ADC),
                 createMatchRecord("EUW1_4002", "fake-puuid", 25.0, "Lux", Role.SUPPORT),
                 createMatchRecord("EUW1_4003", "fake-puuid", 28.0, "Caitlyn", Role.ADC)));
 
-    var result = service.fetchMatchAggregation(email);
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
 
     // All 3 matches saved to DB (regardless of role)
     verify(saveMatchRecordsPort).saveMatchRecords(argThat(list -> list.size() == 3));
@@ -134,23 +256,243 @@ class FetchMatchAggregateServiceTest {
     assertThat(result.wins()).isEqualTo(2);
   }
 
+  @Test
+  void shouldServeRoleChangeFromCachedRoleAggregates() {
+    var cache = new RecentAggregateCache(loadMatchRecordsPort, new ConcurrentMapCacheManager());
+    service =
+        new FetchMatchAggregateService(
+            fetchRiotAccountPort,
+            fetchMatchDetailsPort,
+            loadMatchRecordsPort,
+            saveMatchRecordsPort,
+            accountPersistencePort,
+            matchSyncPort,
+            loadMatchAggregatePort,
+            cache,
+            matchBackfillPort);
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_4001", "stored-puuid", 30.0, "Jinx", Role.ADC),
+                createMatchRecord("EUW1_4002", "stored-puuid", 25.0, "Lux", Role.SUPPORT),
+                createMatchRecord("EUW1_4003", "stored-puuid", 28.0, "Nami", Role.SUPPORT)));
+    when(accountPersistencePort.loadAccount(email))
+        .thenReturn(
+            Optional.of(storedAccount()),
+            Optional.of(storedAccount().withUpdates(name, tag, Role.SUPPORT, Region.KR)));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(List.of());
+
+    var adc = service.fetchMatchAggregation(email, MatchScope.RECENT);
+    var support = service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    assertThat(adc.gamesAnalyzed()).isEqualTo(1);
+    assertThat(support.gamesAnalyzed()).isEqualTo(2);
+    verify(loadMatchRecordsPort, times(1)).loadRecentMatchRecordsPerRole("stored-puuid", 20);
+  }
+
+  @Test
+  void shouldRebuildRoleAggregatesAfterEviction() {
+    var cache = new RecentAggregateCache(loadMatchRecordsPort, new ConcurrentMapCacheManager());
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("puuid", 20))
+        .thenReturn(
+            List.of(createMatchRecord("EUW1_4001", "puuid")),
+            List.of(
+                createMatchRecord("EUW1_4001", "puuid"), createMatchRecord("EUW1_3001", "puuid")));
+
+    var before = cache.load("puuid", 1000L);
+    cache.evict("puuid");
+    var after = cache.load("puuid", 1000L);
+
+    assertThat(before.forRole(Role.ADC).gamesAnalyzed()).isEqualTo(1);
+    assertThat(after.forRole(Role.ADC).gamesAnalyzed()).isEqualTo(2);
+  }
+
   @Test
   void shouldNotSaveWhenAllMatchesAreRemakes() {
     when(accountPersistencePort.loadAccount(email))
         .thenReturn(
             Optional.of(
                 new Account(
-                    1L, email, name, tag, Role.ADC, Region.KR, Map.of(Permission.BASE_USE, true))));
-    when(fetchRiotAccountPort.getPuuid(name, tag)).thenReturn(Optional.of("fake-puuid"));
-    when(fetchMatchDetailsPort.getMatchIdsByPuuid("fake-puuid")).thenReturn(List.of("EUW1_3001"));
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    null,
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
+    when(fetchRiotAccountPort.getPuuid(Region.KR, name, tag)).thenReturn(Optional.of("fake-puuid"));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "fake-puuid"))
+        .thenReturn(List.of("EUW1_3001"));
     when(loadMatchRecordsPort.loadExistingMatchRecords("fake-puuid", List.of("EUW1_3001")))
         .thenReturn(List.of());
-    when(fetchMatchDetailsPort.getMatchRecords("fake-puuid", List.of("EUW1_3001")))
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "fake-puuid", List.of("EUW1_3001")))
         .thenReturn(List.of(createMatchRecord("EUW1_3001", "fake-puuid", 2.5)));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("fake-puuid", 20))
+        .thenReturn(List.of());
 
-    var result = service.fetchMatchAggregation(email);
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
 
     verifyNoInteractions(saveMatchRecordsPort);
     assertThat(result.gamesAnalyzed()).isZero();
   }
+
+  @Test
+  void shouldSaveOtherParticipantsWithoutAggregatingThem() {
+    when(accountPersistencePort.loadAccount(email))
+        .thenReturn(
+            Optional.of(
+                new Account(
+                    1L,
+                    email,
+                    name,
+                    tag,
+                    null,
+                    Role.ADC,
+                    Region.KR,
+                    Map.of(Permission.BASE_USE, true))));
+    when(fetchRiotAccountPort.getPuuid(Region.KR, name, tag)).thenReturn(Optional.of("fake-puuid"));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuid(Region.KR, "fake-puuid"))
+        .thenReturn(List.of("EUW1_5001"));
+    when(loadMatchRecordsPort.loadExistingMatchRecords("fake-puuid", List.of("EUW1_5001")))
+        .thenReturn(List.of());
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "fake-puuid", List.of("EUW1_5001")))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_5001", "fake-puuid"),
+                createMatchRecord("EUW1_5001", "other-puuid")));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("fake-puuid", 20))
+        .thenReturn(List.of(createMatchRecord("EUW1_5001", "fake-puuid")));
+
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    verify(saveMatchRecordsPort)
+        .saveMatchRecords(
+            List.of(
+                createMatchRecord("EUW1_5001", "fake-puuid"),
+                createMatchRecord("EUW1_5001", "other-puuid")));
+    assertThat(result.gamesAnalyzed()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldServeFromDbWhenThereAreNoNewMatches() {
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(storedAccount()));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(List.of());
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_7001", "stored-puuid"),
+                createMatchRecord("EUW1_7002", "stored-puuid")));
+
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    verify(fetchMatchDetailsPort, never()).getMatchRecords(any(), any(), any());
+    verify(loadMatchRecordsPort, never()).loadExistingMatchRecords(any(), any());
+    verifyNoInteractions(saveMatchRecordsPort);
+    assertThat(result.gamesAnalyzed()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldFetchOnlyNewerMatchesAndAdvanceLatestGameCreation() {
+    var newMatch = createMatchRecord("EUW1_7003", "stored-puuid");
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(storedAccount()));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(List.of("EUW1_7003"));
+    when(loadMatchRecordsPort.loadExistingMatchRecords("stored-puuid", List.of("EUW1_7003")))
+        .thenReturn(List.of());
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "stored-puuid", List.of("EUW1_7003")))
+        .thenReturn(List.of(newMatch));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(
+            List.of(
+                newMatch,
+                createMatchRecord("EUW1_7001", "stored-puuid"),
+                createMatchRecord("EUW1_7002", "stored-puuid")));
+
+    var result = service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    verify(fetchMatchDetailsPort, never()).getMatchIdsByPuuid(any(), any());
+    verify(saveMatchRecordsPort).saveMatchRecords(List.of(newMatch));
+    verify(matchSyncPort).saveLatestGameCreation("stored-puuid", newMatch.gameCreation());
+    assertThat(result.gamesAnalyzed()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReopenBackfillWhenMoreMatchesAreListedThanFetched() {
+    var matchIds = IntStream.range(0, 25).mapToObj(i -> "EUW1_" + (7100 - i)).toList();
+    var fetched = matchIds.subList(0, 20);
+    var newest = createMatchRecord("EUW1_7100", "stored-puuid");
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(storedAccount()));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(matchIds);
+    when(loadMatchRecordsPort.loadExistingMatchRecords("stored-puuid", fetched))
+        .thenReturn(List.of());
+    when(fetchMatchDetailsPort.getMatchRecords(Region.KR, "stored-puuid", fetched))
+        .thenReturn(List.of(newest));
+    when(loadMatchRecordsPort.loadRecentMatchRecordsPerRole("stored-puuid", 20))
+        .thenReturn(List.of(newest));
+
+    service.fetchMatchAggregation(email, MatchScope.RECENT);
+
+    verify(fetchMatchDetailsPort).getMatchRecords(Region.KR, "stored-puuid", fetched);
+    verify(matchBackfillPort).saveBackfill(MatchBackfill.start("stored-puuid"));
+    verify(matchSyncPort).saveLatestGameCreation("stored-puuid", newest.gameCreation());
+  }
+
+  @Test
+  void shouldAggregateWholeSeasonForSeasonScope() {
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(storedAccount()));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(List.of());
+    var seasonAggregate =
+        MatchAggregate.fromMatchRecordList(
+            List.of(
+                createMatchRecord("EUW1_8001", "stored-puuid"),
+                createMatchRecord("EUW1_8002", "stored-puuid")));
+    when(loadMatchAggregatePort.loadSeasonMatchAggregate("stored-puuid", Role.ADC))
+        .thenReturn(seasonAggregate);
+
+    var result = service.fetchMatchAggregation(email, MatchScope.SEASON);
+
+    assertThat(result).isEqualTo(seasonAggregate);
+    verify(loadMatchRecordsPort, never()).loadRecentMatchRecordsPerRole(any(), anyInt());
+  }
+
+  @Test
+  void shouldLoadWidestTrendWindowOnce() {
+    when(accountPersistencePort.loadAccount(email)).thenReturn(Optional.of(storedAccount()));
+    when(matchSyncPort.loadLatestGameCreation("stored-puuid")).thenReturn(Optional.of(1000L));
+    when(fetchMatchDetailsPort.getMatchIdsByPuuidSince(Region.KR, "stored-puuid", 1000L))
+        .thenReturn(List.of());
+    when(loadMatchRecordsPort.loadRecentMatchRecords("stored-puuid", Role.ADC, 20))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_9001", "stored-puuid"),
+                createMatchRecord("EUW1_9002", "stored-puuid")));
+
+    var result = service.fetchMatchTrend(email, List.of(5, 20));
+
+    verify(loadMatchRecordsPort).loadRecentMatchRecords("stored-puuid", Role.ADC, 20);
+    assertThat(result.baselineWindow()).isEqualTo(20);
+    assertThat(result.windows()).extracting(MatchWindow::gamesAnalyzed).containsExactly(2, 2);
+  }
+
+  private Account storedAccount() {
+    return new Account(
+        1L,
+        email,
+        name,
+        tag,
+        "stored-puuid",
+        Role.ADC,
+        Region.KR,
+        Map.of(Permission.BASE_USE, true));
+  }
 }
@@ -3,6 +3,7 @@ package com.coachdiff.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.coachdiff.domain.exception.LeagueDataNotFoundException;
@@ -29,10 +30,10 @@ class FetchProfileServiceTest {
 
   @Test
   void shouldGetProfile() {
-    when(fetchRiotAccountPort.getPuuid(any(), any())).thenReturn(Optional.of("puuid"));
-    when(fetchSummonerDataPort.getSummonerDataByPuuid("puuid"))
+    when(fetchRiotAccountPort.getPuuid(any(), any(), any())).thenReturn(Optional.of("puuid"));
+    when(fetchSummonerDataPort.getSummonerDataByPuuid(Region.EUW1, "puuid"))
         .thenReturn(Optional.of(new Summoner("https://ddragon.mock.com/profile.png")));
-    when(fetchLeagueDataPort.getLeagueDataByPuuid("puuid"))
+    when(fetchLeagueDataPort.getLeagueDataByPuuid(Region.EUW1, "puuid"))
         .thenReturn(Optional.of(new Rank(Tier.EMERALD, Division.I, 11, 5, 2)));
     when(accountPersistencePort.loadAccount("example@email.com"))
         .thenReturn(
@@ -42,6 +43,7 @@ class FetchProfileServiceTest {
                     "example@email.com",
                     "Jhonny",
                     "1234",
+                    null,
                     Role.JUNGLE,
                     Region.EUW1,
                     Map.of())));
@@ -57,6 +59,18 @@ class FetchProfileServiceTest {
     assertThat(profile.name()).isEqualTo("Jhonny");
     assertThat(profile.tier()).isEqualTo(Tier.EMERALD);
     assertThat(profile.profileIconURI()).isEqualTo("https://ddragon.mock.com/profile.png");
+    verify(accountPersistencePort)
+        .savePuuid(
+            new Account(
+                1L,
+                "example@email.com",
+                "Jhonny",
+                "1234",
+                null,
+                Role.JUNGLE,
+                Region.EUW1,
+                Map.of()),
+            "puuid");
   }
 
   @Test
@@ -69,10 +83,12 @@ class FetchProfileServiceTest {
                     "example@email.com",
                     "fake-name",
                     "fake-tag",
+                    null,
                     Role.JUNGLE,
                     Region.EUW1,
                     Map.of())));
-    when(fetchRiotAccountPort.getPuuid("fake-name", "fake-tag")).thenReturn(Optional.empty());
+    when(fetchRiotAccountPort.getPuuid(Region.EUW1, "fake-name", "fake-tag"))
+        .thenReturn(Optional.empty());
     assertThatThrownBy(
             () ->
                 new FetchProfileService(
@@ -94,11 +110,14 @@ class FetchProfileServiceTest {
                     "example@email.com",
                     "fake-name",
                     "fake-tag",
+                    null,
                     Role.JUNGLE,
                     Region.EUW1,
                     Map.of())));
-    when(fetchRiotAccountPort.getPuuid("fake-name", "fake-tag")).thenReturn(Optional.of("puuid"));
-    when(fetchLeagueDataPort.getLeagueDataByPuuid("puuid")).thenReturn(Optional.empty());
+    when(fetchRiotAccountPort.getPuuid(Region.EUW1, "fake-name", "fake-tag"))
+        .thenReturn(Optional.of("puuid"));
+    when(fetchLeagueDataPort.getLeagueDataByPuuid(Region.EUW1, "puuid"))
+        .thenReturn(Optional.empty());
     assertThatThrownBy(
             () ->
                 new FetchProfileService(
@@ -120,12 +139,15 @@ class FetchProfileServiceTest {
                     "example@email.com",
                     "fake-name",
                     "fake-tag",
+                    null,
                     Role.JUNGLE,
                     Region.EUW1,
                     Map.of())));
-    when(fetchRiotAccountPort.getPuuid("fake-name", "fake-tag")).thenReturn(Optional.of("puuid"));
-    when(fetchSummonerDataPort.getSummonerDataByPuuid("puuid")).thenReturn(Optional.empty());
-    when(fetchLeagueDataPort.getLeagueDataByPuuid("puuid"))
+    when(fetchRiotAccountPort.getPuuid(Region.EUW1, "fake-name", "fake-tag"))
+        .thenReturn(Optional.of("puuid"));
+    when(fetchSummonerDataPort.getSummonerDataByPuuid(Region.EUW1, "puuid"))
+        .thenReturn(Optional.empty());
+    when(fetchLeagueDataPort.getLeagueDataByPuuid(Region.EUW1, "puuid"))
         .thenReturn(Optional.of(new Rank(Tier.EMERALD, Division.I, 11, 5, 2)));
 
     assertThatThrownBy(
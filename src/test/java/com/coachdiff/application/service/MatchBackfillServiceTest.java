@@ -0,0 +1,121 @@
+package com.coachdiff.application.service;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.coachdiff.domain.model.Account;
+import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.MatchBackfill;
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.port.out.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MatchBackfillServiceTest {
+  @Mock private AccountPersistencePort accountPersistencePort;
+  @Mock private FetchMatchDetailsPort fetchMatchDetailsPort;
+  @Mock private LoadMatchRecordsPort loadMatchRecordsPort;
+  @Mock private SaveMatchRecordsPort saveMatchRecordsPort;
+  @Mock private MatchBackfillPort matchBackfillPort;
+  @Mock private RecentAggregateCache recentAggregateCache;
+
+  private MatchBackfillService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new MatchBackfillService(
+            accountPersistencePort,
+            fetchMatchDetailsPort,
+            loadMatchRecordsPort,
+            saveMatchRecordsPort,
+            matchBackfillPort,
+            recentAggregateCache);
+  }
+
+  @Test
+  void shouldPageThroughSeasonAndStoreMissingMatches() {
+    var firstPage = matchIds(0, 100);
+    var lastPage = matchIds(100, 3);
+    when(accountPersistencePort.loadAllAccounts()).thenReturn(List.of(account("puuid")));
+    when(matchBackfillPort.loadBackfill("puuid")).thenReturn(Optional.empty());
+    when(fetchMatchDetailsPort.getSeasonMatchIdsPage(Region.EUW1, "puuid", 0, 100))
+        .thenReturn(firstPage);
+    when(fetchMatchDetailsPort.getSeasonMatchIdsPage(Region.EUW1, "puuid", 100, 100))
+        .thenReturn(lastPage);
+    when(loadMatchRecordsPort.loadExistingMatchRecords("puuid", firstPage))
+        .thenReturn(firstPage.stream().map(id -> createMatchRecord(id, "puuid")).toList());
+    when(loadMatchRecordsPort.loadExistingMatchRecords("puuid", lastPage))
+        .thenReturn(List.of(createMatchRecord("EUW1_100", "puuid")));
+    when(fetchMatchDetailsPort.getMatchRecords(
+            Region.EUW1, "puuid", List.of("EUW1_101", "EUW1_102")))
+        .thenReturn(
+            List.of(
+                createMatchRecord("EUW1_101", "puuid"), createMatchRecord("EUW1_102", "puuid", 3)));
+
+    var stored = new ArrayList<Match>();
+    when(saveMatchRecordsPort.bulkSaveMatchRecords(any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Stream<Match>>getArgument(0).forEach(stored::add);
+              return 1L;
+            });
+
+    service.backfillAccounts();
+
+    assertThat(stored).containsExactly(createMatchRecord("EUW1_101", "puuid"));
+    verify(matchBackfillPort).saveBackfill(new MatchBackfill("puuid", 100, false));
+    verify(matchBackfillPort).saveBackfill(new MatchBackfill("puuid", 103, true));
+    verify(recentAggregateCache).evict("puuid");
+  }
+
+  @Test
+  void shouldResumeFromCheckpoint() {
+    when(accountPersistencePort.loadAllAccounts()).thenReturn(List.of(account("puuid")));
+    when(matchBackfillPort.loadBackfill("puuid"))
+        .thenReturn(Optional.of(new MatchBackfill("puuid", 200, false)));
+    when(fetchMatchDetailsPort.getSeasonMatchIdsPage(Region.EUW1, "puuid", 200, 100))
+        .thenReturn(List.of());
+
+    service.backfillAccounts();
+
+    verify(fetchMatchDetailsPort, never()).getSeasonMatchIdsPage(Region.EUW1, "puuid", 0, 100);
+    verify(matchBackfillPort).saveBackfill(new MatchBackfill("puuid", 200, true));
+    verifyNoInteractions(saveMatchRecordsPort, recentAggregateCache);
+  }
+
+  @Test
+  void shouldSkipCompletedAndUnresolvedAccounts() {
+    when(accountPersistencePort.loadAllAccounts())
+        .thenReturn(List.of(account("puuid"), account(null)));
+    when(matchBackfillPort.loadBackfill("puuid"))
+        .thenReturn(Optional.of(new MatchBackfill("puuid", 340, true)));
+
+    service.backfillAccounts();
+
+    verify(fetchMatchDetailsPort, never()).getSeasonMatchIdsPage(any(), any(), anyInt(), anyInt());
+    verify(matchBackfillPort, never()).saveBackfill(any());
+  }
+
+  private static Account account(String puuid) {
+    return new Account(
+        1L, "email@user.com", "name", "1234", puuid, Role.ADC, Region.EUW1, Map.of());
+  }
+
+  private static List<String> matchIds(int from, int count) {
+    return IntStream.range(from, from + count).mapToObj(i -> "EUW1_" + i).toList();
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class MatchAggregateTest {
@@ -14,7 +15,7 @@ class MatchAggregateTest {
     MatchAggregate stats =
         new MatchAggregate(
             10, 7, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-            List.of());
+            List.of(), Map.of());
     assertThat(stats.winRate()).isCloseTo(0.7, within(0.001));
   }
 
@@ -22,8 +23,8 @@ class MatchAggregateTest {
   void shouldReturnZeroWinRateWhenNoGamesAnalyzed() {
     MatchAggregate stats =
         new MatchAggregate(
-            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-            List.of());
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, List.of(),
+            Map.of());
     assertThat(stats.winRate()).isEqualTo(0.0);
   }
 
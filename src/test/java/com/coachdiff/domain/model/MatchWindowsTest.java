@@ -0,0 +1,108 @@
+package com.coachdiff.domain.model;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MatchWindowsTest {
+
+  @Test
+  void shouldAverageTheMostRecentGamesOfEachWindow() {
+    var games = games(50);
+    var shuffled = new ArrayList<>(games);
+    Collections.shuffle(shuffled);
+
+    var trend = MatchWindows.of(shuffled).trend(List.of(20, 5, 10, 50));
+
+    assertThat(trend.baselineWindow()).isEqualTo(50);
+    assertThat(trend.windows()).extracting(MatchWindow::window).containsExactly(5, 10, 20, 50);
+    for (var window : trend.windows()) {
+      var expected = MatchAggregate.fromMatchRecordList(games.subList(0, window.window()));
+      assertThat(window.gamesAnalyzed()).isEqualTo(expected.gamesAnalyzed());
+      assertThat(window.wins()).isEqualTo(expected.wins());
+      assertThat(window.winRate()).isEqualTo(expected.winRate());
+      assertThat(window.averages().get(MatchMetric.KILLS))
+          .isCloseTo(expected.avgKills(), within(1e-9));
+      assertThat(window.averages().get(MatchMetric.XP_AT_15))
+          .isCloseTo(expected.avgXpAt15(), within(1e-9));
+    }
+  }
+
+  @Test
+  void shouldCompareEachWindowToTheWidestOne() {
+    var trend = MatchWindows.of(games(20)).trend(List.of(5, 20));
+
+    var lastFive = trend.windows().getFirst();
+    var lastTwenty = trend.windows().getLast();
+    assertThat(lastFive.deltas().get(MatchMetric.KILLS))
+        .isCloseTo(
+            lastFive.averages().get(MatchMetric.KILLS)
+                - lastTwenty.averages().get(MatchMetric.KILLS),
+            within(1e-9));
+    assertThat(lastFive.winRateDelta()).isEqualTo(lastFive.winRate() - lastTwenty.winRate());
+    assertThat(lastTwenty.deltas().values()).containsOnly(0.0);
+  }
+
+  @Test
+  void shouldCoverEveryGameWhenWindowIsWiderThanHistory() {
+    var trend = MatchWindows.of(games(3)).trend(List.of(0, 5, -1));
+
+    assertThat(trend.windows()).hasSize(1);
+    assertThat(trend.windows().getFirst().gamesAnalyzed()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReturnEmptyWindowsWithoutGames() {
+    var window = MatchWindows.of(List.of()).trend(List.of(5)).windows().getFirst();
+
+    assertThat(window.gamesAnalyzed()).isZero();
+    assertThat(window.winRate()).isZero();
+    assertThat(window.averages().values()).containsOnly(0.0);
+  }
+
+  // The most recent game first
+  private List<Match> games(int count) {
+    var games = new ArrayList<Match>(count);
+    for (int i = 0; i < count; i++) {
+      var match = createMatchRecord("EUW1_" + i, "puuid");
+      games.add(
+          new Match(
+              match.matchId(),
+              match.puuid(),
+              i % 3 != 0,
+              match.gameDurationMinutes(),
+              match.gameCreation() - i * 3_600_000L,
+              match.championName(),
+              match.role(),
+              i % 7,
+              match.deaths(),
+              match.assists(),
+              match.kda(),
+              match.soloKills(),
+              match.damagePerMinute(),
+              match.damagePerGold(),
+              match.teamDamagePercentage(),
+              match.damageTakenPercentage(),
+              match.killParticipation(),
+              match.goldPerMinute(),
+              match.csPerMinute(),
+              match.damageToTurrets(),
+              match.damageToObjectives(),
+              match.turretPlatesTaken(),
+              match.visionScorePerMinute(),
+              match.wardsPlaced(),
+              match.wardsKilled(),
+              match.controlWardsPlaced(),
+              match.csAt10(),
+              match.goldAt10(),
+              match.goldAt15(),
+              i % 4 == 0 ? null : 6000.0 + i));
+    }
+    return games;
+  }
+}
@@ -0,0 +1,75 @@
+package com.coachdiff.domain.model;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MetricAccumulatorTest {
+
+  @Test
+  void shouldMergeIntoTheSameAggregateAsAddingEveryMatch() {
+    var first = createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC);
+    var second = createMatchRecord("match-2", "puuid", 25.0, "Kai'Sa", Role.ADC);
+    var all = new MetricAccumulator();
+    all.add(first);
+    all.add(second);
+
+    var merged = new MetricAccumulator();
+    merged.add(first);
+    var other = new MetricAccumulator();
+    other.add(second);
+    merged.merge(other);
+
+    assertThat(merged.toMatchAggregate(List.of(), Map.of()))
+        .isEqualTo(all.toMatchAggregate(List.of(), Map.of()));
+  }
+
+  @Test
+  void shouldCountMissingTimelineStatsAsZero() {
+    var match = createMatchRecord("match-1", "puuid");
+    var accumulator = new MetricAccumulator();
+    accumulator.add(match);
+    accumulator.add(
+        new Match(
+            "match-2",
+            match.puuid(),
+            false,
+            match.gameDurationMinutes(),
+            match.gameCreation(),
+            match.championName(),
+            match.role(),
+            match.kills(),
+            match.deaths(),
+            match.assists(),
+            match.kda(),
+            match.soloKills(),
+            match.damagePerMinute(),
+            match.damagePerGold(),
+            match.teamDamagePercentage(),
+            match.damageTakenPercentage(),
+            match.killParticipation(),
+            match.goldPerMinute(),
+            match.csPerMinute(),
+            match.damageToTurrets(),
+            match.damageToObjectives(),
+            match.turretPlatesTaken(),
+            match.visionScorePerMinute(),
+            match.wardsPlaced(),
+            match.wardsKilled(),
+            match.controlWardsPlaced(),
+            null,
+            null,
+            null,
+            null));
+
+    var aggregate = accumulator.toChampionAggregate("Jinx");
+
+    assertThat(aggregate.gamesAnalyzed()).isEqualTo(2);
+    assertThat(aggregate.wins()).isEqualTo(1);
+    assertThat(aggregate.avgGoldAt10()).isEqualTo(match.goldAt10() / 2);
+    assertThat(aggregate.avgKills()).isEqualTo(match.kills());
+  }
+}
@@ -45,7 +45,8 @@ class ProfileTest {
     var summonerRecord = new Summoner("https://ddragon.url");
     var rankRecord = new Rank(Tier.IRON, Division.III, 0, 0, 0);
 
-    var profile = Profile.composeProfile("Random", "#1234", summonerRecord, rankRecord);
+    var profile =
+        Profile.composeProfile("Random", "#1234", Region.EUW1, summonerRecord, rankRecord);
 
     assertThat(profile.winRate()).isEqualTo(0.0);
   }
@@ -56,7 +57,8 @@ class ProfileTest {
     var summonerRecord = new Summoner("https://ddragon.url");
     var rankRecord = new Rank(Tier.IRON, Division.III, 0, wins, losses);
 
-    var profile = Profile.composeProfile("Random", "#1234", summonerRecord, rankRecord);
+    var profile =
+        Profile.composeProfile("Random", "#1234", Region.EUW1, summonerRecord, rankRecord);
 
     assertThat(profile.winRate()).isCloseTo(expectedWinRate, Offset.offset(0.001));
   }
@@ -0,0 +1,111 @@
+package com.coachdiff.domain.model;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+  @Test
+  void shouldEstimateQuantilesOfUniformValues() {
+    var sketch = new QuantileSketch();
+    var random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      sketch.add(random.nextDouble() * 100);
+    }
+
+    assertThat(sketch.count()).isEqualTo(100_000);
+    assertThat(sketch.quantile(0.25)).isCloseTo(25, within(0.5));
+    assertThat(sketch.quantile(0.5)).isCloseTo(50, within(0.5));
+    assertThat(sketch.quantile(0.9)).isCloseTo(90, within(0.5));
+    assertThat(sketch.quantile(0.999)).isCloseTo(99.9, within(0.05));
+  }
+
+  @Test
+  void shouldBeExactForFewValues() {
+    var sketch = new QuantileSketch();
+    for (int i = 1; i <= 5; i++) {
+      sketch.add(i);
+    }
+
+    assertThat(sketch.quantile(0.5)).isEqualTo(3.0);
+    assertThat(sketch.quantile(0)).isEqualTo(1.0);
+    assertThat(sketch.quantile(1)).isEqualTo(5.0);
+  }
+
+  @Test
+  void shouldMergeSketchesOfDisjointValues() {
+    var low = new QuantileSketch();
+    var high = new QuantileSketch();
+    for (int i = 0; i < 10_000; i++) {
+      low.add(i);
+      high.add(10_000 + i);
+    }
+
+    low.merge(high);
+
+    assertThat(low.count()).isEqualTo(20_000);
+    assertThat(low.quantile(0.25)).isCloseTo(5_000, within(50.0));
+    assertThat(low.quantile(0.75)).isCloseTo(15_000, within(50.0));
+  }
+
+  @Test
+  void shouldReadBackTheSameQuantilesFromBytes() {
+    var sketch = new QuantileSketch();
+    var random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      sketch.add(random.nextGaussian() * 10);
+    }
+
+    var read = QuantileSketch.fromBytes(sketch.toBytes());
+
+    assertThat(read.count()).isEqualTo(sketch.count());
+    for (double q : new double[] {0, 0.25, 0.5, 0.9, 1}) {
+      assertThat(read.quantile(q)).isEqualTo(sketch.quantile(q));
+    }
+  }
+
+  @Test
+  void shouldReturnZeroPercentilesWithoutGames() {
+    assertThat(MetricPercentiles.of(new QuantileSketch()))
+        .isEqualTo(new MetricPercentiles(0, 0, 0, 0));
+  }
+
+  @Test
+  void shouldMergeMetricSketches() {
+    var sketches = new MetricSketches();
+    sketches.add(createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC));
+    var other = new MetricSketches();
+    other.add(createMatchRecord("match-2", "puuid", 25.0, "Jinx", Role.ADC));
+
+    sketches.merge(other);
+
+    var matches =
+        List.of(
+            createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC),
+            createMatchRecord("match-2", "puuid", 25.0, "Jinx", Role.ADC));
+    assertThat(sketches.percentiles())
+        .isEqualTo(MatchAggregate.fromMatchRecordList(matches).percentiles())
+        .containsOnlyKeys(MetricSketches.METRICS);
+  }
+
+  @Test
+  void shouldMergeNewGamesIntoStoredMetricSketches() {
+    var stored = new MetricSketches();
+    stored.add(createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC));
+
+    var sketches = MetricSketches.fromBytes(stored.toBytes());
+    sketches.add(createMatchRecord("match-2", "puuid", 25.0, "Jinx", Role.ADC));
+
+    var matches =
+        List.of(
+            createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC),
+            createMatchRecord("match-2", "puuid", 25.0, "Jinx", Role.ADC));
+    assertThat(sketches.percentiles())
+        .isEqualTo(MatchAggregate.fromMatchRecordList(matches).percentiles());
+  }
+}
@@ -0,0 +1,37 @@
+package com.coachdiff.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RequestOwnerTest {
+
+  @Test
+  void shouldWeighAccountByItsHighestGrantedPermission() {
+    var owner =
+        RequestOwner.of(account(Map.of(Permission.BASE_USE, true, Permission.COACH_USE, true)));
+
+    assertThat(owner).isEqualTo(new RequestOwner(7L, 4));
+  }
+
+  @Test
+  void shouldIgnoreRevokedPermissions() {
+    var owner = RequestOwner.of(account(Map.of(Permission.COACH_USE, false)));
+
+    assertThat(owner.weight()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldBeAnonymousOutsideOfAnOwner() {
+    assertThat(RequestOwner.current()).isEqualTo(RequestOwner.ANONYMOUS);
+
+    var owner = new RequestOwner(7L, 4);
+    owner.run(() -> assertThat(RequestOwner.current()).isEqualTo(owner));
+  }
+
+  private Account account(Map<Permission, Boolean> permissions) {
+    return new Account(
+        7L, "email@user.com", "name", "1234", null, Role.MID, Region.EUW1, permissions);
+  }
+}
@@ -0,0 +1,33 @@
+package com.coachdiff.domain.model;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RoleAggregatesTest {
+
+  @Test
+  void shouldAggregateEveryRoleSeparately() {
+    var jinx = createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC);
+    var caitlyn = createMatchRecord("match-2", "puuid", 25.0, "Caitlyn", Role.ADC);
+    var lux = createMatchRecord("match-3", "puuid", 28.0, "Lux", Role.SUPPORT);
+
+    var aggregates = RoleAggregates.of(List.of(jinx, lux, caitlyn));
+
+    assertThat(aggregates.byRole()).containsOnlyKeys(Role.ADC, Role.SUPPORT);
+    assertThat(aggregates.forRole(Role.ADC))
+        .isEqualTo(MatchAggregate.fromMatchRecordList(List.of(jinx, caitlyn)));
+    assertThat(aggregates.forRole(Role.SUPPORT))
+        .isEqualTo(MatchAggregate.fromMatchRecordList(List.of(lux)));
+  }
+
+  @Test
+  void shouldReturnEmptyAggregateForRoleWithoutGames() {
+    var aggregates =
+        RoleAggregates.of(List.of(createMatchRecord("match-1", "puuid", 30.0, "Jinx", Role.ADC)));
+
+    assertThat(aggregates.forRole(Role.MID).gamesAnalyzed()).isZero();
+  }
+}
@@ -40,6 +40,7 @@ public class AccountControllerTest {
                 "test@example.com",
                 "TestName",
                 "TestTag",
+                null,
                 Role.ADC,
                 Region.EUW1,
                 Map.of(Permission.BASE_USE, true)));
@@ -77,6 +78,7 @@ public class AccountControllerTest {
                 "test@example.com",
                 "TestName",
                 "TestTag",
+                null,
                 Role.ADC,
                 Region.EUW1,
                 Map.of(Permission.BASE_USE, true)));
@@ -113,6 +115,7 @@ public class AccountControllerTest {
                 "email@user.com",
                 "TestName",
                 "TestTag",
+                null,
                 Role.ADC,
                 Region.EUW1,
                 Map.of(Permission.BASE_USE, true)));
@@ -143,6 +146,7 @@ public class AccountControllerTest {
                 "email@user.com",
                 "TestName",
                 "TestTag",
+                null,
                 Role.ADC,
                 Region.EUW1,
                 Map.of(Permission.BASE_USE, true)));
@@ -7,8 +7,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.coachdiff.domain.exception.ErrorCode;
 import com.coachdiff.domain.exception.MatchDataNotFoundException;
 import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.MatchScope;
+import com.coachdiff.domain.model.MatchTrend;
 import com.coachdiff.domain.port.in.FetchMatchAggregatePort;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchTrendDto;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchWindowDto;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -28,14 +33,16 @@ class MatchAggregationControllerTest {
     var aggregate =
         new MatchAggregate(
             20, 12, 8, 6.5, 3.2, 8.1, 4.5, 1.8, 820.0, 1.9, 0.28, 0.20, 0.58, 410.0, 7.8, 78.0,
-            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, List.of());
+            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, List.of(), Map.of());
 
-    when(fetchMatchAggregatePort.fetchMatchAggregation("email@example.com")).thenReturn(aggregate);
+    when(fetchMatchAggregatePort.fetchMatchAggregation("email@example.com", MatchScope.RECENT))
+        .thenReturn(aggregate);
 
     var dto =
         new com.coachdiff.infrastructure.adapter.in.rest.dto.MatchAggregationDto(
             20, 12, 8, 6.5, 3.2, 8.1, 4.5, 1.8, 820.0, 1.9, 0.28, 0.20, 0.58, 410.0, 7.8, 78.0,
-            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, 0.6, List.of());
+            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, 0.6, List.of(),
+            Map.of());
 
     when(matchAggregationMapper.toDto(aggregate)).thenReturn(dto);
 
@@ -55,7 +62,7 @@ class MatchAggregationControllerTest {
 
   @Test
   void shouldReturnNotFoundWhenNoMatchData() throws Exception {
-    when(fetchMatchAggregatePort.fetchMatchAggregation("email@example.com"))
+    when(fetchMatchAggregatePort.fetchMatchAggregation("email@example.com", MatchScope.RECENT))
         .thenThrow(
             new MatchDataNotFoundException(
                 ErrorCode.MATCH_DATA_NOT_FOUND, "No match data was found for TestName#TestTag"));
@@ -66,4 +73,50 @@ class MatchAggregationControllerTest {
         .andExpect(jsonPath("$.code").value(ErrorCode.MATCH_DATA_NOT_FOUND.name()))
         .andExpect(jsonPath("$.message").value("No match data was found for TestName#TestTag"));
   }
+
+  @Test
+  void shouldPassRequestedScope() throws Exception {
+    var aggregate =
+        new MatchAggregate(
+            80, 44, 36, 6.5, 3.2, 8.1, 4.5, 1.8, 820.0, 1.9, 0.28, 0.20, 0.58, 410.0, 7.8, 78.0,
+            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, List.of(), Map.of());
+    var dto =
+        new com.coachdiff.infrastructure.adapter.in.rest.dto.MatchAggregationDto(
+            80, 44, 36, 6.5, 3.2, 8.1, 4.5, 1.8, 820.0, 1.9, 0.28, 0.20, 0.58, 410.0, 7.8, 78.0,
+            3900.0, 5400.0, 5800.0, 2800.0, 6500.0, 2.3, 1.3, 11.0, 3.5, 4.2, 0.55, List.of(),
+            Map.of());
+
+    when(fetchMatchAggregatePort.fetchMatchAggregation("email@example.com", MatchScope.SEASON))
+        .thenReturn(aggregate);
+    when(matchAggregationMapper.toDto(aggregate)).thenReturn(dto);
+
+    mockMvc
+        .perform(
+            get("/api/matches")
+                .param("scope", "SEASON")
+                .header("X-User-Email", "email@example.com"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.gamesAnalyzed").value(80));
+  }
+
+  @Test
+  void shouldReturnMatchTrendForDefaultWindows() throws Exception {
+    var trend = new MatchTrend(50, List.of());
+    var dto =
+        new MatchTrendDto(
+            50,
+            List.of(
+                new MatchWindowDto(5, 5, 4, 0.8, Map.of("KILLS", 7.0), 0.2, Map.of("KILLS", 1.5))));
+
+    when(fetchMatchAggregatePort.fetchMatchTrend("email@example.com", List.of(5, 10, 20, 50)))
+        .thenReturn(trend);
+    when(matchAggregationMapper.toDto(trend)).thenReturn(dto);
+
+    mockMvc
+        .perform(get("/api/matches/trend").header("X-User-Email", "email@example.com"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.baselineWindow").value(50))
+        .andExpect(jsonPath("$.windows[0].window").value(5))
+        .andExpect(jsonPath("$.windows[0].deltas.KILLS").value(1.5));
+  }
 }
@@ -41,6 +41,7 @@ class AccountPersistenceAdapterTest {
                     "test@email.com",
                     "Player",
                     "1234",
+                    null,
                     "ADC",
                     "EUW1",
                     Map.of("base_use", true))));
@@ -72,6 +73,7 @@ class AccountPersistenceAdapterTest {
             "new@email.com",
             "NewPlayer",
             "5678",
+            null,
             Role.JUNGLE,
             Region.EUW1,
             Map.of(Permission.BASE_USE, true));
@@ -82,6 +84,7 @@ class AccountPersistenceAdapterTest {
                 "new@email.com",
                 "NewPlayer",
                 "5678",
+                null,
                 "JUNGLE",
                 "EUW1",
                 Map.of("base_use", true)));
@@ -101,6 +104,7 @@ class AccountPersistenceAdapterTest {
             "test@email.com",
             "Updated",
             "9999",
+            null,
             Role.SUPPORT,
             Region.EUW1,
             Map.of(Permission.BASE_USE, true));
@@ -116,4 +120,13 @@ class AccountPersistenceAdapterTest {
 
     verify(repository).deleteById(1L);
   }
+
+  @Test
+  void shouldSavePuuidOnlyForTheLoadedRiotId() {
+    var account =
+        new Account(1L, "test@email.com", "Player", "1234", null, Role.ADC, Region.EUW1, Map.of());
+    when(repository.updatePuuid(1L, "Player", "1234", "new-puuid")).thenReturn(0);
+
+    assertThat(adapter.savePuuid(account, "new-puuid")).isFalse();
+  }
 }
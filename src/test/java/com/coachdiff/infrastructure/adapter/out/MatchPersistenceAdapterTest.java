@@ -3,30 +3,38 @@ package com.coachdiff.infrastructure.adapter.out;
 import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.coachdiff.domain.model.Match;
+import com.coachdiff.infrastructure.adapter.out.persistence.MatchBatchWriter;
+import com.coachdiff.infrastructure.adapter.out.persistence.MatchCopyLoader;
 import com.coachdiff.infrastructure.adapter.out.persistence.MatchEntity;
-import com.coachdiff.infrastructure.adapter.out.persistence.MatchId;
 import com.coachdiff.infrastructure.adapter.out.persistence.MatchPersistenceAdapter;
 import com.coachdiff.infrastructure.adapter.out.persistence.MatchRepository;
+import com.coachdiff.infrastructure.adapter.out.persistence.MatchSyncEntity;
+import com.coachdiff.infrastructure.adapter.out.persistence.MatchSyncRepository;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class MatchPersistenceAdapterTest {
   @Mock private MatchRepository repository;
+  @Mock private MatchSyncRepository syncRepository;
+  @Mock private MatchBatchWriter batchWriter;
+  @Mock private MatchCopyLoader copyLoader;
 
   private MatchPersistenceAdapter matchPersistenceAdapter;
 
   @BeforeEach
   public void setUp() {
-    matchPersistenceAdapter = new MatchPersistenceAdapter(repository);
+    matchPersistenceAdapter =
+        new MatchPersistenceAdapter(repository, syncRepository, batchWriter, copyLoader);
   }
 
   @Test
@@ -39,14 +47,8 @@ public class MatchPersistenceAdapterTest {
 
     matchPersistenceAdapter.saveMatchRecords(matchRecordList);
 
-    ArgumentCaptor<List<MatchEntity>> captor = ArgumentCaptor.captor();
-    verify(repository).saveAll(captor.capture());
-
-    var savedEntities = captor.getValue();
-    assertThat(savedEntities).hasSize(3);
-    assertThat(savedEntities.get(0).getId()).isEqualTo(new MatchId("match-1", "puuid"));
-    assertThat(savedEntities.get(1).getId()).isEqualTo(new MatchId("match-2", "puuid"));
-    assertThat(savedEntities.get(2).getId()).isEqualTo(new MatchId("match-3", "puuid"));
+    verify(batchWriter).insertMissing(matchRecordList);
+    verifyNoInteractions(repository);
   }
 
   @Test
@@ -55,11 +57,16 @@ public class MatchPersistenceAdapterTest {
 
     matchPersistenceAdapter.saveMatchRecords(emptyList);
 
-    ArgumentCaptor<List<MatchEntity>> captor = ArgumentCaptor.captor();
-    verify(repository).saveAll(captor.capture());
+    verify(batchWriter).insertMissing(emptyList);
+  }
+
+  @Test
+  void shouldBulkLoadStreamedMatchRecords() {
+    var matches = Stream.of(createMatchRecord("match-1", "puuid"));
+    when(copyLoader.load(matches)).thenReturn(1L);
 
-    var savedEntities = captor.getValue();
-    assertThat(savedEntities).isEmpty();
+    assertThat(matchPersistenceAdapter.bulkSaveMatchRecords(matches)).isEqualTo(1L);
+    verifyNoInteractions(repository, batchWriter);
   }
 
   @Test
@@ -84,4 +91,11 @@ public class MatchPersistenceAdapterTest {
   private MatchEntity createMatchRecordEntity(String matchId, String puuid) {
     return MatchEntity.from(createMatchRecord(matchId, puuid));
   }
+
+  @Test
+  void shouldSaveLatestGameCreation() {
+    matchPersistenceAdapter.saveLatestGameCreation("random-puuid", 1740000000000L);
+
+    verify(syncRepository).save(new MatchSyncEntity("random-puuid", 1740000000000L));
+  }
 }
@@ -0,0 +1,150 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.MatchAggregate;
+import com.coachdiff.domain.model.Role;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@Testcontainers
+@Import({
+  MatchAggregatePersistenceAdapter.class,
+  MatchBatchWriter.class,
+  MatchAggregateSeason.class,
+  MatchAggregateSketches.class
+})
+class MatchAggregatePersistenceAdapterTest {
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired private MatchAggregatePersistenceAdapter adapter;
+  @Autowired private MatchBatchWriter batchWriter;
+  @Autowired private MatchAggregateSeason season;
+
+  @Test
+  void shouldAggregateLikeTheInMemoryAggregation() {
+    var adcMatches =
+        List.of(
+            createMatchRecord("EUW1_1", "puuid"),
+            createMatchRecord("EUW1_2", "puuid", 25.0, "Jinx", Role.ADC),
+            createMatchRecord("EUW1_3", "puuid", 30.0, "Kaisa", Role.ADC));
+    batchWriter.insertMissing(adcMatches);
+    batchWriter.insertMissing(
+        List.of(
+            createMatchRecord("EUW1_4", "puuid", 30.0, "Lux", Role.SUPPORT),
+            createMatchRecord("EUW1_1", "other-puuid")));
+
+    var aggregate = adapter.loadSeasonMatchAggregate("puuid", Role.ADC);
+
+    var expected = MatchAggregate.fromMatchRecordList(adcMatches);
+    assertThat(aggregate)
+        .usingRecursiveComparison()
+        .ignoringFields("championsAggregate")
+        .isEqualTo(expected);
+    assertThat(aggregate.championsAggregate())
+        .containsExactlyInAnyOrderElementsOf(expected.championsAggregate());
+  }
+
+  @Test
+  void shouldCountEachStoredMatchOnce() {
+    batchWriter.insertMissing(List.of(createMatchRecord("EUW1_1", "puuid")));
+    batchWriter.insertMissing(
+        List.of(createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid")));
+
+    var aggregate = adapter.loadSeasonMatchAggregate("puuid", Role.ADC);
+
+    assertThat(aggregate.gamesAnalyzed()).isEqualTo(2);
+    assertThat(aggregate.championsAggregate())
+        .singleElement()
+        .satisfies(champion -> assertThat(champion.gamesAnalyzed()).isEqualTo(2));
+  }
+
+  @Test
+  void shouldLeaveOutMatchesFromBeforeTheSeason() {
+    var match = createMatchRecord("EUW1_1", "puuid");
+    batchWriter.insertMissing(
+        List.of(
+            match,
+            new Match(
+                "EUW1_0",
+                match.puuid(),
+                match.win(),
+                match.gameDurationMinutes(),
+                1000L,
+                match.championName(),
+                match.role(),
+                match.kills(),
+                match.deaths(),
+                match.assists(),
+                match.kda(),
+                match.soloKills(),
+                match.damagePerMinute(),
+                match.damagePerGold(),
+                match.teamDamagePercentage(),
+                match.damageTakenPercentage(),
+                match.killParticipation(),
+                match.goldPerMinute(),
+                match.csPerMinute(),
+                match.damageToTurrets(),
+                match.damageToObjectives(),
+                match.turretPlatesTaken(),
+                match.visionScorePerMinute(),
+                match.wardsPlaced(),
+                match.wardsKilled(),
+                match.controlWardsPlaced(),
+                match.csAt10(),
+                match.goldAt10(),
+                match.goldAt15(),
+                match.xpAt15())));
+
+    var aggregate = adapter.loadSeasonMatchAggregate("puuid", Role.ADC);
+
+    assertThat(aggregate.gamesAnalyzed()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReturnAnEmptyAggregateWithoutMatches() {
+    var aggregate = adapter.loadSeasonMatchAggregate("puuid", Role.ADC);
+
+    assertThat(aggregate).isEqualTo(MatchAggregate.fromMatchRecordList(List.of()));
+  }
+
+  @Test
+  void shouldFollowTheSeasonStartWhenItChanges() {
+    // The fixture games are created at 1736300000000, after the configured season start
+    batchWriter.insertMissing(List.of(createMatchRecord("EUW1_1", "puuid")));
+
+    season.startSeason(1736300001L);
+    assertThat(adapter.loadSeasonMatchAggregate("puuid", Role.ADC).gamesAnalyzed()).isZero();
+    assertThat(adapter.loadSeasonMatchAggregate("puuid", Role.ADC).percentiles()).isEmpty();
+
+    batchWriter.insertMissing(List.of(createMatchRecord("EUW1_2", "puuid")));
+    assertThat(adapter.loadSeasonMatchAggregate("puuid", Role.ADC).gamesAnalyzed()).isZero();
+
+    season.startSeason(1736294400L);
+    var rebuilt = adapter.loadSeasonMatchAggregate("puuid", Role.ADC);
+    assertThat(rebuilt.gamesAnalyzed()).isEqualTo(2);
+    assertThat(rebuilt.percentiles())
+        .isEqualTo(
+            MatchAggregate.fromMatchRecordList(
+                    List.of(
+                        createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid")))
+                .percentiles());
+  }
+}
@@ -0,0 +1,59 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@Testcontainers
+@Import({MatchBatchWriter.class, MatchAggregateSketches.class})
+class MatchBatchWriterTest {
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired private MatchBatchWriter batchWriter;
+  @Autowired private MatchRepository repository;
+
+  @Test
+  void shouldInsertAllMatchesInOneStatement() {
+    var matches =
+        List.of(createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid"));
+
+    int inserted = batchWriter.insertMissing(matches);
+
+    assertThat(inserted).isEqualTo(2);
+    var stored = repository.findByPuuidAndMatchIdIn("puuid", List.of("EUW1_1", "EUW1_2"));
+    assertThat(stored).map(MatchEntity::toDomain).containsExactlyInAnyOrderElementsOf(matches);
+  }
+
+  @Test
+  void shouldSkipMatchesThatAreAlreadyStored() {
+    batchWriter.insertMissing(List.of(createMatchRecord("EUW1_1", "puuid")));
+
+    int inserted =
+        batchWriter.insertMissing(
+            List.of(createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid")));
+
+    assertThat(inserted).isEqualTo(1);
+    assertThat(repository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotQueryForAnEmptyBatch() {
+    assertThat(batchWriter.insertMissing(List.of())).isZero();
+  }
+}
@@ -0,0 +1,106 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import static com.coachdiff.testutil.TestFixtures.createMatchRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.coachdiff.domain.model.Match;
+import com.coachdiff.domain.model.Role;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@ImportAutoConfiguration({FlywayAutoConfiguration.class, TransactionAutoConfiguration.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@Testcontainers
+@Import({
+  MatchCopyLoader.class,
+  MatchAggregatePersistenceAdapter.class,
+  MatchAggregateSketches.class
+})
+class MatchCopyLoaderTest {
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired private MatchCopyLoader copyLoader;
+  @Autowired private MatchRepository repository;
+  @Autowired private MatchAggregatePersistenceAdapter aggregateAdapter;
+
+  @Test
+  void shouldCopyStreamedMatchesIntoMatchData() {
+    var matches =
+        List.of(createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid"));
+
+    long inserted = copyLoader.load(matches.stream());
+
+    assertThat(inserted).isEqualTo(2);
+    var stored = repository.findByPuuidAndMatchIdIn("puuid", List.of("EUW1_1", "EUW1_2"));
+    assertThat(stored).map(MatchEntity::toDomain).containsExactlyInAnyOrderElementsOf(matches);
+  }
+
+  @Test
+  void shouldSkipMatchesThatAreAlreadyStored() {
+    copyLoader.load(Stream.of(createMatchRecord("EUW1_1", "puuid")));
+
+    long inserted =
+        copyLoader.load(
+            Stream.of(createMatchRecord("EUW1_1", "puuid"), createMatchRecord("EUW1_2", "puuid")));
+
+    assertThat(inserted).isEqualTo(1);
+    assertThat(repository.count()).isEqualTo(2);
+    assertThat(aggregateAdapter.loadSeasonMatchAggregate("puuid", Role.ADC).gamesAnalyzed())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldStoreMissingTimelineStatsAsNull() {
+    var match = createMatchRecord("EUW1_1", "puuid");
+    var shortGame =
+        new Match(
+            match.matchId(),
+            match.puuid(),
+            match.win(),
+            match.gameDurationMinutes(),
+            null,
+            match.championName(),
+            match.role(),
+            match.kills(),
+            match.deaths(),
+            match.assists(),
+            match.kda(),
+            match.soloKills(),
+            match.damagePerMinute(),
+            match.damagePerGold(),
+            match.teamDamagePercentage(),
+            match.damageTakenPercentage(),
+            match.killParticipation(),
+            match.goldPerMinute(),
+            match.csPerMinute(),
+            match.damageToTurrets(),
+            match.damageToObjectives(),
+            match.turretPlatesTaken(),
+            match.visionScorePerMinute(),
+            match.wardsPlaced(),
+            match.wardsKilled(),
+            match.controlWardsPlaced(),
+            null,
+            null,
+            null,
+            null);
+
+    copyLoader.load(Stream.of(shortGame));
+
+    assertThat(repository.findAll()).map(MatchEntity::toDomain).containsExactly(shortGame);
+  }
+}
@@ -4,6 +4,7 @@ import static com.coachdiff.testutil.TestFixtures.createMatchRecordEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.coachdiff.domain.model.Role;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
@@ -11,6 +12,7 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -44,4 +46,37 @@ class MatchRepositoryTest {
     assertThat(foundRecord.get().getKda()).isEqualTo(4.5);
     assertThat(foundRecord.get().getSoloKills()).isEqualTo(2);
   }
+
+  @Test
+  void shouldLoadRecentMatchesInTheGivenRoleOnly() {
+    repository.saveAll(
+        List.of(
+            createMatchRecordEntity("EUW1_1", "some-puuid"),
+            createMatchRecordEntity("EUW1_2", "some-puuid", "Lux", Role.SUPPORT),
+            createMatchRecordEntity("EUW1_3", "other-puuid")));
+
+    var recent = repository.findRecentByPuuidAndRole("some-puuid", "ADC", Limit.of(20));
+
+    assertThat(recent)
+        .extracting(MatchEntity::getId)
+        .containsExactly(new MatchId("EUW1_1", "some-puuid"));
+  }
+
+  @Test
+  void shouldLoadRecentMatchesOfEveryRoleUpToTheLimit() {
+    repository.saveAll(
+        List.of(
+            createMatchRecordEntity("EUW1_1", "some-puuid"),
+            createMatchRecordEntity("EUW1_2", "some-puuid"),
+            createMatchRecordEntity("EUW1_3", "some-puuid"),
+            createMatchRecordEntity("EUW1_4", "some-puuid", "Lux", Role.SUPPORT),
+            createMatchRecordEntity("EUW1_5", "other-puuid")));
+
+    var recent =
+        repository.findRecentByPuuidPerRole("some-puuid", new String[] {"ADC", "SUPPORT"}, 2);
+
+    assertThat(recent).extracting(MatchEntity::getRole).containsOnly(Role.ADC, Role.SUPPORT);
+    assertThat(recent).filteredOn(match -> match.getRole() == Role.ADC).hasSize(2);
+    assertThat(recent).filteredOn(match -> match.getRole() == Role.SUPPORT).hasSize(1);
+  }
 }
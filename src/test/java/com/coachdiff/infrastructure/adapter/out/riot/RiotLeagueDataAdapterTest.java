@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.coachdiff.domain.model.Division;
 import com.coachdiff.domain.model.Rank;
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Tier;
 import com.coachdiff.infrastructure.config.RiotProperties;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
@@ -23,11 +24,11 @@ public class RiotLeagueDataAdapterTest {
 
     var riotProperties =
         new RiotProperties(
-            new RiotProperties.RiotApi("fake-key", wmBaseUrl, wmBaseUrl, wmBaseUrl, wmBaseUrl),
+            new RiotProperties.RiotApi("fake-key", wmBaseUrl),
             new RiotProperties.RiotDdragon("https://ddragon.mock.com", "16.3.1"),
-            new RiotProperties.RiotRateLimit(20, 1));
+            new RiotProperties.RiotRateLimit("20:1,100:120", 1, 3, 20, 10, 5, 300, false, 5, 1000));
 
-    var client = new RiotLeagueClient(RestClient.builder(), riotProperties);
+    var client = new RiotLeagueClient(new RiotRoutes(RestClient.builder(), riotProperties));
 
     this.adapter = new RiotLeagueDataAdapter(client);
 
@@ -63,7 +64,7 @@ public class RiotLeagueDataAdapterTest {
 
   @Test
   void shouldReturnRankRecordWithExistingPuuid() {
-    var leagueData = adapter.getLeagueDataByPuuid("real-puuid");
+    var leagueData = adapter.getLeagueDataByPuuid(Region.EUW1, "real-puuid");
 
     assertThat(leagueData)
         .isPresent()
@@ -74,7 +75,7 @@ public class RiotLeagueDataAdapterTest {
 
   @Test
   void shouldReturnEmptyOptionalWhenPuuidIsNotFound() {
-    var leagueData = adapter.getLeagueDataByPuuid("not-found-puuid");
+    var leagueData = adapter.getLeagueDataByPuuid(Region.EUW1, "not-found-puuid");
     assertThat(leagueData).isEmpty();
   }
 }
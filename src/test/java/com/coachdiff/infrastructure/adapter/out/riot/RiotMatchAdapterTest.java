@@ -0,0 +1,49 @@
+package com.coachdiff.infrastructure.adapter.out.riot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.infrastructure.adapter.out.riot.ratelimit.RiotRateLimitRegistry;
+import com.coachdiff.infrastructure.config.RiotProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RiotMatchAdapterTest {
+  @Mock private RiotMatchClient riotMatchClient;
+  @Mock private RiotRoutes riotRoutes;
+
+  private RiotMatchAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    var riotProperties =
+        new RiotProperties(
+            new RiotProperties.RiotApi("fake-key", "http://localhost"),
+            new RiotProperties.RiotDdragon("https://ddragon-mock.com/cdn", "16.3.1"),
+            new RiotProperties.RiotRateLimit("20:1,100:120", 5, 3, 20, 10, 5, 300, false, 5, 1000));
+    adapter =
+        new RiotMatchAdapter(
+            riotMatchClient,
+            new RiotRateLimitRegistry("20:1,100:120"),
+            riotRoutes,
+            riotProperties,
+            false);
+  }
+
+  @Test
+  void shouldNotListTheNewestKnownGameAgain() {
+    // Created at 1740000000.500s: asking from 1740000000 would list it once more
+    when(riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid", 1740000001L))
+        .thenReturn(List.of());
+
+    var matchIds = adapter.getMatchIdsByPuuidSince(Region.EUW1, "test-puuid", 1740000000500L);
+
+    assertThat(matchIds).isEmpty();
+  }
+}
@@ -4,33 +4,40 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.infrastructure.adapter.out.dto.RiotTimelineFramesDTO;
+import com.coachdiff.infrastructure.adapter.out.exception.RiotNotFoundException;
 import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
 import com.coachdiff.infrastructure.config.RiotProperties;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
 @WireMockTest
 class RiotMatchClientTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private RiotMatchClient riotMatchClient;
 
   @BeforeEach
   void setUp(WireMockRuntimeInfo wmInfo) {
     var wmBaseUrl = wmInfo.getHttpBaseUrl();
-    var restClientBuilder = RestClient.builder().baseUrl(wmBaseUrl);
-    var apiProps =
-        new RiotProperties.RiotApi("fake-key", wmBaseUrl, wmBaseUrl, wmBaseUrl, wmBaseUrl);
+    var apiProps = new RiotProperties.RiotApi("fake-key", wmBaseUrl);
     var ddragonProps = new RiotProperties.RiotDdragon("https://ddragon-mock.com/cdn", "16.3.1");
-    var rateLimitProps = new RiotProperties.RiotRateLimit(20, 5);
+    var rateLimitProps =
+        new RiotProperties.RiotRateLimit("20:1,100:120", 5, 3, 20, 10, 5, 300, false, 5, 1000);
     var riotProperties = new RiotProperties(apiProps, ddragonProps, rateLimitProps);
-    var rateLimiter = RateLimiter.of("test", RateLimiterConfig.custom().build());
 
     this.riotMatchClient =
-        new RiotMatchClient(restClientBuilder, riotProperties, rateLimiter, 1736294400L);
+        new RiotMatchClient(
+            new RiotRoutes(RestClient.builder(), riotProperties), 1736294400L, meterRegistry);
   }
 
   @Test
@@ -44,11 +51,56 @@ class RiotMatchClientTest {
                     ["EUW1_1111", "EUW1_2222", "EUW1_3333"]
                     """)));
 
-    var matchIds = riotMatchClient.getMatchesIds("test-puuid");
+    var matchIds = riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid");
 
     assertThat(matchIds).containsExactly("EUW1_1111", "EUW1_2222", "EUW1_3333");
   }
 
+  @Test
+  void shouldGetMatchIdsSinceStartTime() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids"))
+            .withQueryParam("startTime", equalTo("1740000000"))
+            .willReturn(okJson("[\"EUW1_4444\"]")));
+
+    var matchIds = riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid", 1740000000L);
+
+    assertThat(matchIds).containsExactly("EUW1_4444");
+  }
+
+  @Test
+  void shouldPageThroughMatchIdsSinceStartTime() {
+    var firstPage = IntStream.range(0, 100).mapToObj(i -> "\"EUW1_" + i + "\"").toList();
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids"))
+            .withQueryParam("start", equalTo("0"))
+            .withQueryParam("count", equalTo("100"))
+            .willReturn(okJson("[" + String.join(",", firstPage) + "]")));
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids"))
+            .withQueryParam("start", equalTo("100"))
+            .willReturn(
+                okJson(
+                    """
+                    ["EUW1_99", "EUW1_100"]
+                    """)));
+
+    var matchIds = riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid", 1740000000L);
+
+    assertThat(matchIds).hasSize(101).endsWith("EUW1_99", "EUW1_100");
+    verify(2, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids")));
+  }
+
+  @Test
+  void shouldNotGetMatchIdsFromBeforeSeasonStart() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids"))
+            .withQueryParam("startTime", equalTo("1736294400"))
+            .willReturn(okJson("[]")));
+
+    assertThat(riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid", 1700000000L)).isEmpty();
+  }
+
   @Test
   void shouldGetMatchData() {
     stubFor(
@@ -58,6 +110,7 @@ class RiotMatchClientTest {
                     """
                     {
                       "info": {
+                        "gameCreation": 1740000000000,
                         "gameDuration": 1800,
                         "participants": [
                           {
@@ -92,8 +145,9 @@ class RiotMatchClientTest {
                     }
                     """)));
 
-    var match = riotMatchClient.getMatchData("EUW1_1111");
+    var match = riotMatchClient.getMatchData(Region.EUW1, "EUW1_1111");
 
+    assertThat(match.info().gameCreation()).isEqualTo(1740000000000L);
     assertThat(match.info().gameDuration()).isEqualTo(1800);
     assertThat(match.info().participants()).hasSize(1);
 
@@ -105,40 +159,128 @@ class RiotMatchClientTest {
   }
 
   @Test
-  void shouldGetMatchTimelineData() {
+  void shouldExtractTimelineFramesForParticipant() {
     stubFor(
         get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
-            .willReturn(
-                okJson(
-                    """
-                    {
-                      "metadata": {
-                        "participants": ["puuid-1", "puuid-2"]
-                      },
-                      "info": {
-                        "frameInterval": 60000,
-                        "frames": [
-                          {
-                            "timestamp": 0,
-                            "participantFrames": {
-                              "1": { "minionsKilled": 0, "jungleMinionsKilled": 0, "totalGold": 500, "xp": 0 },
-                              "2": { "minionsKilled": 0, "jungleMinionsKilled": 0, "totalGold": 500, "xp": 0 }
-                            }
-                          }
-                        ]
-                      }
-                    }
-                    """)));
+            .willReturn(okJson(timelineJson(20))));
+
+    var frames = riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-2");
+
+    assertThat(frames).containsOnlyKeys("puuid-2");
+    assertThat(frames.get("puuid-2").at10())
+        .isEqualTo(new RiotTimelineFramesDTO.ParticipantFrame(20, 2, 1020, 2000));
+    assertThat(frames.get("puuid-2").at15())
+        .isEqualTo(new RiotTimelineFramesDTO.ParticipantFrame(30, 2, 1520, 3000));
+  }
 
-    var timeline = riotMatchClient.getMatchTimelineData("EUW1_1111");
+  @Test
+  void shouldExtractTimelineFramesForAllParticipants() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(20))));
 
-    assertThat(timeline.metadata().participants()).containsExactly("puuid-1", "puuid-2");
-    assertThat(timeline.info().frameInterval()).isEqualTo(60000);
-    assertThat(timeline.info().frames()).hasSize(1);
+    var frames = riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111");
 
-    var frame = timeline.info().frames().getFirst();
-    assertThat(frame.participantFrames()).containsKey("1");
-    assertThat(frame.participantFrames().get("1").totalGold()).isEqualTo(500);
+    assertThat(frames).containsOnlyKeys("puuid-1", "puuid-2");
+    assertThat(frames.get("puuid-1").at10().totalGold()).isEqualTo(1010);
+    assertThat(frames.get("puuid-2").at15().totalGold()).isEqualTo(1520);
+  }
+
+  @Test
+  void shouldReturnFramesWithoutAt15WhenGameEndsBeforeMinute15() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(13))));
+
+    var frames = riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-1");
+
+    assertThat(frames).containsOnlyKeys("puuid-1");
+    assertThat(frames.get("puuid-1").at10().totalGold()).isEqualTo(1010);
+    assertThat(frames.get("puuid-1").at15()).isNull();
+  }
+
+  @Test
+  void shouldReturnEmptyTimelineFramesWhenGameEndsBeforeMinute10() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(8))));
+
+    assertThat(riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-1"))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldReturnEmptyTimelineFramesWhenPuuidIsNotAParticipant() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(20))));
+
+    assertThat(riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "someone-else"))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldShareInFlightTimelineBetweenCallersWantingTheSameParticipant() throws Exception {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(16)).withFixedDelay(300)));
+
+    Map<String, RiotTimelineFramesDTO> first;
+    Map<String, RiotTimelineFramesDTO> second;
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var firstCall =
+          CompletableFuture.supplyAsync(
+              () -> riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-1"),
+              executor);
+      Thread.sleep(100);
+      second = riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-1");
+      first = firstCall.get();
+    }
+
+    assertThat(first).containsOnlyKeys("puuid-1");
+    assertThat(second).isEqualTo(first);
+    verify(1, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline")));
+    assertThat(
+            meterRegistry
+                .get("riot.requests.coalesced")
+                .tag("call", "match-timeline")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotShareTimelineBetweenCallersWantingDifferentParticipants() throws Exception {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline"))
+            .willReturn(okJson(timelineJson(16)).withFixedDelay(300)));
+
+    Map<String, RiotTimelineFramesDTO> first;
+    Map<String, RiotTimelineFramesDTO> second;
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var firstCall =
+          CompletableFuture.supplyAsync(
+              () -> riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-1"),
+              executor);
+      Thread.sleep(100);
+      second = riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_1111", "puuid-2");
+      first = firstCall.get();
+    }
+
+    assertThat(first).containsOnlyKeys("puuid-1");
+    assertThat(second).containsOnlyKeys("puuid-2");
+    verify(2, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline")));
+  }
+
+  @Test
+  void shouldThrowWhenRiotReturnsRateLimitOnTimeline() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_9999/timeline"))
+            .willReturn(aResponse().withStatus(429)));
+
+    assertThatThrownBy(
+            () -> riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_9999", "puuid-1"))
+        .isInstanceOf(RiotRateLimitException.class);
   }
 
   @Test
@@ -147,7 +289,7 @@ class RiotMatchClientTest {
         get(urlPathEqualTo("/lol/match/v5/matches/by-puuid/test-puuid/ids"))
             .willReturn(aResponse().withStatus(429)));
 
-    assertThatThrownBy(() -> riotMatchClient.getMatchesIds("test-puuid"))
+    assertThatThrownBy(() -> riotMatchClient.getMatchesIds(Region.EUW1, "test-puuid"))
         .isInstanceOf(RiotRateLimitException.class);
   }
 
@@ -157,7 +299,58 @@ class RiotMatchClientTest {
         get(urlPathEqualTo("/lol/match/v5/matches/EUW1_9999"))
             .willReturn(aResponse().withStatus(429)));
 
-    assertThatThrownBy(() -> riotMatchClient.getMatchData("EUW1_9999"))
+    assertThatThrownBy(() -> riotMatchClient.getMatchData(Region.EUW1, "EUW1_9999"))
         .isInstanceOf(RiotRateLimitException.class);
   }
+
+  @Test
+  void shouldThrowWhenTimelineIsNotFound() {
+    stubFor(get(urlPathEqualTo("/lol/match/v5/matches/EUW1_9999/timeline")).willReturn(notFound()));
+
+    assertThatThrownBy(
+            () -> riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_9999", "puuid-1"))
+        .isInstanceOf(RiotNotFoundException.class);
+  }
+
+  @Test
+  void shouldThrowLikeMatchDataWhenRiotFailsOnTimeline() {
+    stubFor(get(urlPathMatching("/lol/match/v5/matches/EUW1_9999.*")).willReturn(serverError()));
+
+    assertThatThrownBy(() -> riotMatchClient.getMatchData(Region.EUW1, "EUW1_9999"))
+        .isInstanceOf(HttpServerErrorException.class);
+    assertThatThrownBy(
+            () -> riotMatchClient.getMatchTimelineFrames(Region.EUW1, "EUW1_9999", "puuid-1"))
+        .isInstanceOf(HttpServerErrorException.class);
+  }
+
+  /** One frame per minute, with a minute-dependent frame for each of the two participants. */
+  private static String timelineJson(int frameCount) {
+    var frames = new StringBuilder();
+    for (int minute = 0; minute < frameCount; minute++) {
+      if (minute > 0) {
+        frames.append(',');
+      }
+      frames.append(
+          """
+          {"timestamp": %d, "events": [{"type": "ITEM_PURCHASED", "participantId": 1}],
+           "participantFrames": {
+             "1": {"minionsKilled": %d, "jungleMinionsKilled": 1, "totalGold": %d, "xp": %d},
+             "2": {"minionsKilled": %d, "jungleMinionsKilled": 2, "totalGold": %d, "xp": %d}
+           }}
+          """
+              .formatted(
+                  minute * 60000,
+                  minute,
+                  minute * 100 + 10,
+                  minute * 100,
+                  minute * 2,
+                  minute * 100 + 20,
+                  minute * 200));
+    }
+    return """
+    {"metadata": {"matchId": "EUW1_1111", "participants": ["puuid-1", "puuid-2"]},
+     "info": {"frameInterval": 60000, "frames": [%s], "gameId": 1111}}
+    """
+        .formatted(frames);
+  }
 }
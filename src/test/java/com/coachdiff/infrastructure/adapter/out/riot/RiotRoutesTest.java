@@ -0,0 +1,39 @@
+package com.coachdiff.infrastructure.adapter.out.riot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.coachdiff.domain.model.Region;
+import com.coachdiff.infrastructure.config.RiotProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.web.client.RestClient;
+
+class RiotRoutesTest {
+  private final RiotRoutes riotRoutes =
+      new RiotRoutes(
+          RestClient.builder(),
+          new RiotProperties(
+              new RiotProperties.RiotApi("fake-key", "https://{route}.api.riotgames.com"),
+              new RiotProperties.RiotDdragon("https://ddragon.mock.com", "16.3.1"),
+              new RiotProperties.RiotRateLimit(
+                  "20:1,100:120", 1, 3, 20, 10, 5, 300, false, 5, 1000)));
+
+  @ParameterizedTest
+  @CsvSource({"EUW1,euw1,europe", "EUN1,eun1,europe", "NA1,na1,americas", "KR,kr,asia"})
+  void shouldMapRegionToPlatformAndRegionalRoute(Region region, String platform, String regional) {
+    assertThat(RiotRoutes.platformRoute(region)).isEqualTo(platform);
+    assertThat(RiotRoutes.regionalRoute(region)).isEqualTo(regional);
+  }
+
+  @Test
+  void shouldResolveRegionalHost() {
+    assertThat(riotRoutes.regionalHost(Region.JP1)).isEqualTo("asia.api.riotgames.com");
+  }
+
+  @Test
+  void shouldReuseClientPerRoute() {
+    assertThat(riotRoutes.regional(Region.EUW1)).isSameAs(riotRoutes.regional(Region.EUN1));
+    assertThat(riotRoutes.platform(Region.EUW1)).isNotSameAs(riotRoutes.platform(Region.EUN1));
+  }
+}
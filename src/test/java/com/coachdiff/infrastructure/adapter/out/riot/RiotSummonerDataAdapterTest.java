@@ -4,6 +4,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import com.coachdiff.domain.model.Region;
 import com.coachdiff.domain.model.Summoner;
 import com.coachdiff.infrastructure.config.RiotProperties;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
@@ -22,11 +23,11 @@ public class RiotSummonerDataAdapterTest {
     var wmBaseUrl = wmInfo.getHttpBaseUrl();
     var riotProps =
         new RiotProperties(
-            new RiotProperties.RiotApi("fake-key", wmBaseUrl, wmBaseUrl, wmBaseUrl, wmBaseUrl),
+            new RiotProperties.RiotApi("fake-key", wmBaseUrl),
             new RiotProperties.RiotDdragon("https://ddragon.mock.com", "16.3.1"),
-            new RiotProperties.RiotRateLimit(20, 1));
+            new RiotProperties.RiotRateLimit("20:1,100:120", 1, 3, 20, 10, 5, 300, false, 5, 1000));
 
-    var riotClient = new RiotSummonerClient(RestClient.builder(), riotProps);
+    var riotClient = new RiotSummonerClient(new RiotRoutes(RestClient.builder(), riotProps));
 
     this.adapter = new RiotSummonerDataAdapter(riotClient, riotProps);
 
@@ -50,7 +51,7 @@ public class RiotSummonerDataAdapterTest {
 
   @Test
   void shouldGetSummonerDataWhenPuuidIsFound() {
-    var summonerData = adapter.getSummonerDataByPuuid("abc-def-ghi");
+    var summonerData = adapter.getSummonerDataByPuuid(Region.EUW1, "abc-def-ghi");
 
     assertThat(summonerData)
         .isPresent()
@@ -61,7 +62,7 @@ public class RiotSummonerDataAdapterTest {
 
   @Test
   void shouldReturnEmptyOptionalWhenPuuidIsNotFound() {
-    var summonerData = adapter.getSummonerDataByPuuid("404");
+    var summonerData = adapter.getSummonerDataByPuuid(Region.EUW1, "404");
     assertThat(summonerData).isEmpty();
   }
 }
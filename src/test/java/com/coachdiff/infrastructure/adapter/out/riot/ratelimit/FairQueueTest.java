@@ -0,0 +1,94 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.coachdiff.domain.model.RequestOwner;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FairQueueTest {
+  private final Set<RiotMethod> exhausted = new HashSet<>();
+  private final FairQueue queue = new FairQueue(method -> !exhausted.contains(method));
+
+  @Test
+  void shouldServeOwnersInProportionToTheirWeight() {
+    var coach = new RequestOwner(1L, 4);
+    var player = new RequestOwner(2L, 1);
+    List<FairQueue.Ticket> tickets = new ArrayList<>();
+    List<RequestOwner> owners = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      tickets.add(queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, player));
+      owners.add(player);
+      tickets.add(queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, coach));
+      owners.add(coach);
+    }
+
+    List<RequestOwner> served = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      int next = indexOfNext(tickets);
+      queue.served(tickets.get(next));
+      queue.remove(tickets.get(next));
+      served.add(owners.get(next));
+      tickets.remove(next);
+      owners.remove(next);
+    }
+
+    assertThat(served.stream().filter(coach::equals).count()).isEqualTo(8);
+    assertThat(served.stream().filter(player::equals).count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldLetNewOwnerGoAheadOfQueuedBacklog() {
+    var backlogOwner = new RequestOwner(1L, 1);
+    var first = queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, backlogOwner);
+    for (int i = 0; i < 50; i++) {
+      queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, backlogOwner);
+    }
+    queue.served(first);
+    queue.remove(first);
+
+    var newcomer = queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, new RequestOwner(2L, 1));
+
+    assertThat(queue.isNext(newcomer)).isTrue();
+  }
+
+  @Test
+  void shouldServeHigherPriorityFirst() {
+    var backfill = queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, RequestOwner.ANONYMOUS);
+    var interactive =
+        queue.enqueue(RiotPriority.INTERACTIVE, RiotMethod.MATCH, new RequestOwner(3L, 1));
+
+    assertThat(queue.isNext(backfill)).isFalse();
+    assertThat(queue.isNext(interactive)).isTrue();
+
+    queue.remove(interactive);
+    assertThat(queue.isNext(backfill)).isTrue();
+  }
+
+  @Test
+  void shouldSkipCallsWhoseMethodIsExhausted() {
+    var timeline =
+        queue.enqueue(RiotPriority.INTERACTIVE, RiotMethod.MATCH_TIMELINE, new RequestOwner(1L, 1));
+    var match = queue.enqueue(RiotPriority.INTERACTIVE, RiotMethod.MATCH, new RequestOwner(2L, 1));
+    var backfill = queue.enqueue(RiotPriority.BACKFILL, RiotMethod.MATCH, RequestOwner.ANONYMOUS);
+
+    assertThat(queue.isNext(match)).isFalse();
+
+    exhausted.add(RiotMethod.MATCH_TIMELINE);
+    assertThat(queue.isNext(timeline)).isTrue();
+    assertThat(queue.isNext(match)).isTrue();
+    assertThat(queue.isNext(backfill)).isFalse();
+  }
+
+  private int indexOfNext(List<FairQueue.Ticket> tickets) {
+    for (int i = 0; i < tickets.size(); i++) {
+      if (queue.isNext(tickets.get(i))) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("No ticket is next");
+  }
+}
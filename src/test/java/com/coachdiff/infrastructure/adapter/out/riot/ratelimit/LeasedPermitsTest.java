@@ -0,0 +1,133 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LeasedPermitsTest {
+  private static final String HOST = "europe.api.riotgames.com";
+  private static final Instant LEASED_AT = Instant.parse("2026-01-08T12:00:00Z");
+
+  private final FakeLease lease = new FakeLease();
+  private long now;
+  private final LeasedPermits permits =
+      new LeasedPermits(lease, 3, Duration.ofSeconds(1), () -> now);
+
+  @Test
+  void shouldLeasePermitsInBlocks() {
+    for (int i = 0; i < 4; i++) {
+      assertThat(permits.tryAcquire(HOST)).isZero();
+    }
+
+    assertThat(lease.leases).containsExactly("app:" + HOST + "/3", "app:" + HOST + "/3");
+  }
+
+  @Test
+  void shouldWaitBeforeLeasingAgainWhenNothingWasGranted() {
+    lease.grants.add(0);
+
+    assertThat(permits.tryAcquire(HOST)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    now += TimeUnit.MILLISECONDS.toNanos(50);
+    assertThat(permits.tryAcquire(HOST)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(lease.leases).hasSize(1);
+
+    now += TimeUnit.MILLISECONDS.toNanos(50);
+    assertThat(permits.tryAcquire(HOST)).isZero();
+    assertThat(lease.leases).hasSize(2);
+  }
+
+  @Test
+  void shouldGiveBackLeftoverPermitsOnceTheHoldHasPassed() {
+    permits.tryAcquire(HOST);
+    now += TimeUnit.SECONDS.toNanos(1);
+
+    permits.tryAcquire(HOST);
+
+    assertThat(lease.givenBack).containsExactly("app:" + HOST + "/2@" + LEASED_AT);
+    assertThat(lease.leases).hasSize(2);
+  }
+
+  @Test
+  void shouldGiveBackExpiredPermitsWithoutWaitingForAnotherCall() {
+    permits.tryAcquire(HOST);
+
+    permits.giveBackExpired();
+    assertThat(lease.givenBack).isEmpty();
+
+    now += TimeUnit.SECONDS.toNanos(1);
+    permits.giveBackExpired();
+    assertThat(lease.givenBack).containsExactly("app:" + HOST + "/2@" + LEASED_AT);
+  }
+
+  @Test
+  void shouldGiveBackHeldPermitsOnClose() {
+    permits.tryAcquire(HOST);
+
+    permits.close();
+
+    assertThat(lease.givenBack).containsExactly("app:" + HOST + "/2@" + LEASED_AT);
+  }
+
+  @Test
+  void shouldReuseReleasedPermits() {
+    lease.grants.add(1);
+    permits.tryAcquire(HOST);
+    permits.release(HOST);
+
+    assertThat(permits.tryAcquire(HOST)).isZero();
+    assertThat(lease.leases).hasSize(1);
+  }
+
+  @Test
+  void shouldGiveBackPermitsReleasedAfterTheHold() {
+    lease.grants.add(1);
+    permits.tryAcquire(HOST);
+    now += TimeUnit.SECONDS.toNanos(1);
+    permits.release(HOST);
+
+    permits.tryAcquire(HOST);
+
+    assertThat(lease.givenBack).containsExactly("app:" + HOST + "/1@" + LEASED_AT);
+  }
+
+  @Test
+  void shouldWaitInsteadOfSpendingTheFullBudgetWhenTheLeaseFails() {
+    var failing =
+        new LeasedPermits(
+            new FakeLease() {
+              @Override
+              public Grant lease(String bucket, int count) {
+                throw new IllegalStateException("database down");
+              }
+            },
+            3,
+            Duration.ofSeconds(1),
+            () -> now);
+
+    assertThat(failing.tryAcquire(HOST)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  private static class FakeLease implements PermitLease {
+    private final Deque<Integer> grants = new ArrayDeque<>();
+    private final List<String> leases = new ArrayList<>();
+    private final List<String> givenBack = new ArrayList<>();
+
+    @Override
+    public Grant lease(String bucket, int count) {
+      leases.add(bucket + "/" + count);
+      return new Grant(grants.isEmpty() ? count : grants.poll(), LEASED_AT);
+    }
+
+    @Override
+    public void giveBack(String bucket, int count, Instant leasedAt) {
+      givenBack.add(bucket + "/" + count + "@" + leasedAt);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RateLimitBucketTest {
+  private static final long SECOND = 1_000_000_000L;
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldGrantPermitsUntilShortestWindowIsExhausted() {
+    var bucket = new RateLimitBucket("test", "2:1,100:120", clock::get);
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isEqualTo(SECOND);
+
+    clock.addAndGet(SECOND);
+    assertThat(bucket.tryAcquire()).isZero();
+  }
+
+  @Test
+  void shouldHonorLongWindowEvenWhenShortWindowHasRoom() {
+    var bucket = new RateLimitBucket("test", "20:1,3:120", clock::get);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(bucket.tryAcquire()).isZero();
+    }
+    clock.addAndGet(2 * SECOND);
+
+    assertThat(bucket.tryAcquire()).isEqualTo(118 * SECOND);
+  }
+
+  @Test
+  void shouldAdoptLimitsAndCountsFromResponseHeaders() {
+    var bucket = new RateLimitBucket("test", "20:1", clock::get);
+
+    bucket.synchronize("20:1,100:120", "1:1,100:120");
+
+    assertThat(bucket.tryAcquire()).isEqualTo(120 * SECOND);
+  }
+
+  @Test
+  void shouldNotLowerLocalCountFromStaleHeaders() {
+    var bucket = new RateLimitBucket("test", "2:1", clock::get);
+    bucket.tryAcquire();
+    bucket.tryAcquire();
+
+    bucket.synchronize("2:1", "1:1");
+
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void shouldIgnoreMissingHeaders() {
+    var bucket = new RateLimitBucket("test", "1:1", clock::get);
+
+    bucket.synchronize(null, null);
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void shouldThrowWhenWaitExceedsTimeout() {
+    var bucket = new RateLimitBucket("test", "1:120", clock::get);
+    bucket.tryAcquire();
+
+    assertThatThrownBy(() -> bucket.acquire(Duration.ofSeconds(5)))
+        .isInstanceOf(RiotRateLimitException.class);
+  }
+}
@@ -0,0 +1,148 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
+import com.coachdiff.infrastructure.adapter.out.riot.RiotExceptionHandler;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.RestClient;
+
+@WireMockTest
+class RiotRateLimitInterceptorTest {
+  private RiotRateLimitRegistry registry;
+  private RestClient client;
+
+  @BeforeEach
+  void setUp(WireMockRuntimeInfo wmInfo) {
+    registry = new RiotRateLimitRegistry("20:1,100:120");
+    var scheduler =
+        new RiotRequestScheduler(
+            registry,
+            SharedRateLimit.NONE,
+            5,
+            Duration.ofMillis(1500),
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+    client =
+        RestClient.builder()
+            .baseUrl(wmInfo.getHttpBaseUrl())
+            .requestInterceptor(
+                new RiotRateLimitInterceptor(registry, scheduler, 2, Duration.ofSeconds(3)))
+            .build();
+
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111"))
+            .willReturn(
+                okJson("{}")
+                    .withHeader("X-App-Rate-Limit", "20:1,100:120")
+                    .withHeader("X-App-Rate-Limit-Count", "1:1,1:120")
+                    .withHeader("X-Method-Rate-Limit", "1:10")
+                    .withHeader("X-Method-Rate-Limit-Count", "1:10")));
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_1111/timeline")).willReturn(okJson("{}")));
+  }
+
+  @Test
+  void shouldLimitEachMethodWithItsOwnBucket() {
+    call("/lol/match/v5/matches/EUW1_1111", RiotMethod.MATCH);
+
+    assertThatThrownBy(() -> call("/lol/match/v5/matches/EUW1_1111", RiotMethod.MATCH))
+        .isInstanceOf(RiotRateLimitException.class);
+
+    call("/lol/match/v5/matches/EUW1_1111/timeline", RiotMethod.MATCH_TIMELINE);
+    verify(2, getRequestedFor(urlPathMatching("/lol/match/v5/matches/EUW1_1111.*")));
+  }
+
+  @Test
+  void shouldShareApplicationBucketAcrossMethods() {
+    call("/lol/match/v5/matches/EUW1_1111", RiotMethod.MATCH);
+    call("/lol/match/v5/matches/EUW1_1111/timeline", RiotMethod.MATCH_TIMELINE);
+
+    assertThat(registry.appBucket("localhost").tryAcquire()).isZero();
+    assertThat(registry.methodBucket("localhost", RiotMethod.MATCH).tryAcquire()).isPositive();
+    assertThat(registry.methodBucket("localhost", RiotMethod.MATCH_TIMELINE).tryAcquire()).isZero();
+  }
+
+  @Test
+  void shouldRetryOnlyTheRejectedCallAfterRetryAfter() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_2222"))
+            .inScenario("rate-limited")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(
+                aResponse()
+                    .withStatus(429)
+                    .withHeader("Retry-After", "1")
+                    .withHeader("X-Rate-Limit-Type", "method"))
+            .willSetStateTo("recovered"));
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_2222"))
+            .inScenario("rate-limited")
+            .whenScenarioStateIs("recovered")
+            .willReturn(okJson("{}")));
+
+    call("/lol/match/v5/matches/EUW1_2222", RiotMethod.MATCH);
+
+    verify(2, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_2222")));
+    assertThat(registry.appBucket("localhost").tryAcquire()).isZero();
+  }
+
+  @Test
+  void shouldGiveUpWhenRetryAfterExceedsDeadline() {
+    stubFor(
+        get(urlPathEqualTo("/lol/match/v5/matches/EUW1_3333"))
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "10")));
+
+    assertThatThrownBy(() -> call("/lol/match/v5/matches/EUW1_3333", RiotMethod.MATCH))
+        .isInstanceOf(RiotRateLimitException.class);
+    verify(1, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_3333")));
+  }
+
+  @Test
+  void shouldNotRetryPastTheCallersPriorityTimeout() {
+    recoverAfterOne429("/lol/match/v5/matches/EUW1_4444", "2");
+    recoverAfterOne429("/lol/match/v5/matches/EUW1_4444/timeline", "2");
+
+    // Retry-After fits in the retry deadline, but not in the interactive timeout
+    assertThatThrownBy(() -> call("/lol/match/v5/matches/EUW1_4444", RiotMethod.MATCH))
+        .isInstanceOf(RiotRateLimitException.class);
+    verify(1, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_4444")));
+
+    RiotPriority.BACKFILL.run(
+        () -> call("/lol/match/v5/matches/EUW1_4444/timeline", RiotMethod.MATCH_TIMELINE));
+    verify(2, getRequestedFor(urlPathEqualTo("/lol/match/v5/matches/EUW1_4444/timeline")));
+  }
+
+  private static void recoverAfterOne429(String path, String retryAfter) {
+    stubFor(
+        get(urlPathEqualTo(path))
+            .inScenario(path)
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", retryAfter))
+            .willSetStateTo("recovered"));
+    stubFor(
+        get(urlPathEqualTo(path))
+            .inScenario(path)
+            .whenScenarioStateIs("recovered")
+            .willReturn(okJson("{}")));
+  }
+
+  private void call(String path, RiotMethod method) {
+    client
+        .get()
+        .uri(path)
+        .attribute(RiotMethod.ATTRIBUTE, method)
+        .retrieve()
+        .onStatus(HttpStatusCode::is4xxClientError, RiotExceptionHandler::handleRiotException)
+        .toBodilessEntity();
+  }
+}
@@ -0,0 +1,108 @@
+package com.coachdiff.infrastructure.adapter.out.riot.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.coachdiff.infrastructure.adapter.out.exception.RiotRateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RiotRequestSchedulerTest {
+  private static final String HOST = "europe.api.riotgames.com";
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RiotRateLimitRegistry registry;
+  private RiotRequestScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    registry = new RiotRateLimitRegistry("4:10");
+    scheduler =
+        new RiotRequestScheduler(
+            registry,
+            SharedRateLimit.NONE,
+            2,
+            Duration.ofMillis(200),
+            Duration.ofMillis(200),
+            meterRegistry);
+  }
+
+  @Test
+  void shouldKeepReservedPermitsForInteractiveCalls() {
+    RiotPriority.BACKFILL.run(() -> scheduler.acquire(HOST, RiotMethod.MATCH));
+    RiotPriority.BACKFILL.run(() -> scheduler.acquire(HOST, RiotMethod.MATCH));
+
+    assertThatThrownBy(
+            () -> RiotPriority.BACKFILL.run(() -> scheduler.acquire(HOST, RiotMethod.MATCH)))
+        .isInstanceOf(RiotRateLimitException.class);
+
+    scheduler.acquire(HOST, RiotMethod.MATCH);
+    scheduler.acquire(HOST, RiotMethod.MATCH);
+    assertThat(registry.appBucket(HOST).availablePermits()).isZero();
+  }
+
+  @Test
+  void shouldHoldBackgroundCallsWhileInteractiveCallIsWaiting() throws Exception {
+    registry.appBucket(HOST).blockFor(Duration.ofMillis(300));
+    var interactiveWaiting = new CountDownLatch(1);
+    var backfillAcquired = new AtomicBoolean();
+
+    var interactive =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  interactiveWaiting.countDown();
+                  scheduler.acquire(HOST, RiotMethod.MATCH, Duration.ofSeconds(2));
+                });
+    interactiveWaiting.await();
+    TimeUnit.MILLISECONDS.sleep(50);
+
+    assertThatThrownBy(
+            () ->
+                RiotPriority.BACKFILL.run(
+                    () -> {
+                      scheduler.acquire(HOST, RiotMethod.MATCH, Duration.ofMillis(150));
+                      backfillAcquired.set(true);
+                    }))
+        .isInstanceOf(RiotRateLimitException.class);
+    interactive.join();
+
+    assertThat(backfillAcquired).isFalse();
+    assertThat(registry.appBucket(HOST).availablePermits()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotHoldOtherMethodsBehindAnExhaustedMethod() throws Exception {
+    registry.methodBucket(HOST, RiotMethod.MATCH_TIMELINE).blockFor(Duration.ofMillis(300));
+    var timelineWaiting = new CountDownLatch(1);
+
+    var timeline =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  timelineWaiting.countDown();
+                  scheduler.acquire(HOST, RiotMethod.MATCH_TIMELINE, Duration.ofSeconds(2));
+                });
+    timelineWaiting.await();
+    TimeUnit.MILLISECONDS.sleep(50);
+
+    scheduler.acquire(HOST, RiotMethod.MATCH, Duration.ofMillis(100));
+    timeline.join();
+
+    assertThat(registry.appBucket(HOST).availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRecordWaitTimePerPriority() {
+    RiotPriority.REFRESH.run(() -> scheduler.acquire(HOST, RiotMethod.ACCOUNT_BY_RIOT_ID));
+
+    assertThat(meterRegistry.get("riot.requests.wait").tag("priority", "refresh").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("riot.requests.queued").tag("priority", "refresh").gauge().value())
+        .isZero();
+  }
+}
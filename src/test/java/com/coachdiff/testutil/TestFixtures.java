@@ -23,6 +23,7 @@ public final class TestFixtures {
         puuid,
         true,
         gameDurationMinutes,
+        1736300000000L,
         championName,
         role,
         // Combat
@@ -66,6 +67,7 @@ public final class TestFixtures {
         puuid,
         true,
         32.5,
+        1736300000000L,
         // Combat
         championName,
         role.name(),